@@ -0,0 +1,55 @@
+package game.bench;
+
+import game.model.GameLog;
+import game.model.Player;
+import game.model.Position;
+import game.model.command.Command;
+import game.model.command.Verb;
+import game.model.rooms.MonsterRoom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A whole fight against a fresh monster, from the first blow to the end.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CombatBenchmark {
+    private final Command attack = Command.of(Verb.ATTACK);
+    private final Random random = new Random(3);
+    private MonsterRoom room;
+    private Player player;
+
+    @Setup(Level.Iteration)
+    public void silence() {
+        // The model reports every blow; keep that out of the results
+        GameLog.route(message -> { });
+    }
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        room = new MonsterRoom(Position.of(1, 1), random.nextLong());
+        player = new Player("Bench", 100, 10, 5);
+    }
+
+    @Benchmark
+    public String monsterFight() {
+        return room.onInteract(player, attack);
+    }
+}
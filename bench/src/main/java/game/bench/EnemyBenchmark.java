@@ -0,0 +1,52 @@
+package game.bench;
+
+import game.model.Labyrinth;
+import game.model.Position;
+import game.model.entities.Enemy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enemy queries, which go through the enemy registry rather than the grid.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnemyBenchmark {
+    @Param({"100", "1000"})
+    int size;
+
+    private Labyrinth labyrinth;
+    private Position center;
+
+    @Setup
+    public void setUp() {
+        labyrinth = new Labyrinth(size, size, 42);
+        center = Position.of(size / 2, size / 2);
+    }
+
+    @Benchmark
+    public List<Enemy> getAllEnemies() {
+        return labyrinth.getAllEnemies();
+    }
+
+    @Benchmark
+    public int aliveInRegion() {
+        return labyrinth.getEnemyRegistry().getAliveInRegion(center).size();
+    }
+}
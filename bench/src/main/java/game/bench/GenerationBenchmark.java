@@ -0,0 +1,42 @@
+package game.bench;
+
+import game.model.Labyrinth;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generation of whole labyrinths, sequentially and on the fork/join pool.
+ * Every call uses a new seed, so no two calls build the same maze.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Djava.awt.headless=true"})
+public class GenerationBenchmark {
+    @Param({"10", "100", "1000", "4000"})
+    int size;
+
+    private long seed;
+
+    @Benchmark
+    public Labyrinth labyrinth() {
+        return new Labyrinth(size, size, seed++);
+    }
+
+    @Benchmark
+    public Labyrinth parallel() {
+        return Labyrinth.parallel(size, size, seed++);
+    }
+}
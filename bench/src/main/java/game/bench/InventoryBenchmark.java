@@ -0,0 +1,90 @@
+package game.bench;
+
+import game.model.Artifact;
+import game.model.GameLog;
+import game.model.Player;
+import game.model.content.ArtifactTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filling an inventory and looking artifacts up by name. Half of the lookups miss.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InventoryBenchmark {
+    private static final int INVENTORY_SIZE = 1000;
+    private static final int LOOKUPS = 1024;
+
+    private Artifact[] artifacts;
+    private String[] names;
+    private Player full;
+    private Player empty;
+
+    @Setup
+    public void setUp() {
+        silence();
+        artifacts = new Artifact[INVENTORY_SIZE];
+        for (int i = 0; i < INVENTORY_SIZE; i++) {
+            artifacts[i] = new ArtifactTemplate("artifact_" + i, "Artifact " + i, "A benchmark artifact",
+                    0, 1, 1, null).create();
+        }
+
+        full = new Player("Bench", 100, 10, 5);
+        for (Artifact artifact : artifacts) {
+            full.addArtifact(artifact);
+        }
+
+        names = new String[LOOKUPS];
+        Random random = new Random(11);
+        for (int i = 0; i < LOOKUPS; i++) {
+            names[i] = "artifact " + random.nextInt(INVENTORY_SIZE * 2);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void silence() {
+        // Picking up an artifact is reported; keep that out of the results
+        GameLog.route(message -> { });
+    }
+
+    @Setup(Level.Invocation)
+    public void newPlayer() {
+        empty = new Player("Bench", 100, 10, 5);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INVENTORY_SIZE)
+    public Player addArtifact() {
+        for (Artifact artifact : artifacts) {
+            empty.addArtifact(artifact);
+        }
+        return empty;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void hasArtifact(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(full.hasArtifact(name));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package game.bench;
+
+import game.model.Labyrinth;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Labyrinths too large to generate up front: room lookups in procedural and off-heap
+ * labyrinths, which derive rooms as they are reached, and opening a saved labyrinth file.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Djava.awt.headless=true"})
+public class LargeLabyrinthBenchmark {
+    private static final int LOOKUPS = 1024;
+    private static final int PROCEDURAL_SIZE = 10000;
+    private static final int OFF_HEAP_SIZE = 20000;
+    private static final int FILE_SIZE = 4000;
+
+    private Labyrinth procedural;
+    private Labyrinth offHeap;
+    private Path file;
+    private Random random;
+
+    @Setup
+    public void setUp() throws IOException {
+        procedural = Labyrinth.procedural(PROCEDURAL_SIZE, PROCEDURAL_SIZE, 42);
+        offHeap = Labyrinth.offHeap(OFF_HEAP_SIZE, OFF_HEAP_SIZE, 42);
+        file = Files.createTempFile("bench", ".mlab");
+        Labyrinth.procedural(FILE_SIZE, FILE_SIZE, 42).save(file);
+        random = new Random(5);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void proceduralGetRoomAt(Blackhole blackhole) {
+        for (int i = 0; i < LOOKUPS; i++) {
+            blackhole.consume(procedural.getRoomAt(random.nextInt(PROCEDURAL_SIZE), random.nextInt(PROCEDURAL_SIZE)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void offHeapGetRoomAt(Blackhole blackhole) {
+        for (int i = 0; i < LOOKUPS; i++) {
+            blackhole.consume(offHeap.getRoomAt(random.nextInt(OFF_HEAP_SIZE), random.nextInt(OFF_HEAP_SIZE)));
+        }
+    }
+
+    /**
+     * Opening maps the file, so this shouldn't grow with the labyrinth.
+     */
+    @Benchmark
+    public Labyrinth fileLoad() throws IOException {
+        return Labyrinth.load(file);
+    }
+}
@@ -0,0 +1,63 @@
+package game.bench;
+
+import game.model.Labyrinth;
+import game.model.Position;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Room lookups in a labyrinth generated up front, as the movement code makes them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LookupBenchmark {
+    private static final int LOOKUPS = 1024;
+
+    private Labyrinth labyrinth;
+    private Position[] positions;
+
+    @Setup
+    public void setUp() {
+        labyrinth = new Labyrinth(100, 100, 42);
+        positions = new Position[LOOKUPS];
+        Random random = new Random(7);
+        for (int i = 0; i < LOOKUPS; i++) {
+            // Include some out-of-bounds positions, as the movement code produces them too
+            positions[i] = Position.of(random.nextInt(labyrinth.getWidth() + 2) - 1,
+                    random.nextInt(labyrinth.getHeight() + 2) - 1);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void getRoomAt(Blackhole blackhole) {
+        for (Position position : positions) {
+            blackhole.consume(labyrinth.getRoomAt(position));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void isValidMove(Blackhole blackhole) {
+        for (Position position : positions) {
+            blackhole.consume(labyrinth.isValidMove(position));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package game.bench;
+
+import game.model.Labyrinth;
+import game.model.Player;
+import game.model.Position;
+import game.model.rooms.Room;
+import game.view.MapRenderer;
+import game.view.export.MapExporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Offscreen rendering of the map and minimap of a fully explored labyrinth, and
+ * whole-map export straight into a raster, one pixel per cell.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RenderBenchmark {
+    private static final int EXPORT_SIZE = 1000;
+
+    private MapRenderer renderer;
+    private BufferedImage map;
+    private BufferedImage minimap;
+    private MapExporter exporter;
+    private int[] raster;
+
+    @Setup
+    public void setUp() {
+        Labyrinth labyrinth = new Labyrinth(100, 100, 42);
+        for (Room[] row : labyrinth.getRooms()) {
+            for (Room room : row) {
+                if (room != null) {
+                    room.markVisited();
+                }
+            }
+        }
+
+        Player player = new Player("Bench", 100, 10, 5);
+        player.setPosition(Position.of(50, 50));
+        renderer = new MapRenderer(labyrinth, player);
+        map = new BufferedImage(600, 600, BufferedImage.TYPE_INT_RGB);
+        minimap = new BufferedImage(300, 150, BufferedImage.TYPE_INT_RGB);
+
+        exporter = new MapExporter(new Labyrinth(EXPORT_SIZE, EXPORT_SIZE, 42), player, 1);
+        raster = new int[EXPORT_SIZE * EXPORT_SIZE];
+    }
+
+    @Benchmark
+    public BufferedImage drawMap() {
+        Graphics2D g = map.createGraphics();
+        renderer.drawMap(g, map.getWidth(), map.getHeight());
+        g.dispose();
+        return map;
+    }
+
+    @Benchmark
+    public BufferedImage drawMinimap() {
+        Graphics2D g = minimap.createGraphics();
+        renderer.drawMinimap(g, minimap.getWidth(), minimap.getHeight(), map.getWidth(), map.getHeight());
+        g.dispose();
+        return minimap;
+    }
+
+    @Benchmark
+    public int[] exportRender() {
+        exporter.render(raster, 0, 0, EXPORT_SIZE, EXPORT_SIZE, 0);
+        return raster;
+    }
+}
@@ -11,8 +11,8 @@ echo "Cleaning previous build..."
 rm -rf game
 
 echo "Compiling Java files..."
-# Compile all Java files
-javac -d . $(find src/main/java -name "*.java")
+# Compile all Java files and copy the game content next to the classes
+javac -encoding UTF-8 -d . $(find src/main/java -name "*.java") && cp -r src/main/resources/. .
 
 # Check if compilation was successful
 if [ $? -eq 0 ]; then
@@ -34,12 +34,13 @@ if [ $? -eq 0 ]; then
     echo "- Type commands in the input field"
     echo "- Use navigation buttons on the right"
     echo "- Use command buttons for common actions"
+    echo "- Press F3 to show live performance metrics"
     echo
     echo "Loading game..."
     echo "=================================================="
     
     # Run the game
-    java game.MagicalLabyrinth
+    java game.MagicalLabyrinth "$@"
 else
     echo "Compilation failed. Please check the error messages above."
     exit 1
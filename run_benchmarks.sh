@@ -0,0 +1,23 @@
+#!/bin/bash
+
+echo "=================================================="
+echo "  Magical Labyrinth: Benchmarks"
+echo "=================================================="
+echo
+echo "Usage: ./run_benchmarks.sh [regex] [JMH options]"
+echo "  regex selects benchmarks by name, e.g. 'Generation|Render'"
+echo "  JMH options such as -wi 1 -i 3 -f 1 override the defaults; -h lists them all"
+echo
+
+echo "Building the benchmark module..."
+mvn -B -q -f bench/pom.xml package
+
+if [ $? -ne 0 ]; then
+    echo "Build failed. Please check the error messages above."
+    exit 1
+fi
+
+echo "Running benchmarks..."
+echo
+# The gc profiler adds the heap allocation per operation to every result
+java -jar bench/target/benchmarks.jar -prof gc "$@"
@@ -1,37 +1,359 @@
 package game;
 
 import game.controller.GameController;
+import game.controller.balance.Balancer;
+import game.controller.balance.SimulationResult;
+import game.controller.replay.ReplayPlayer;
+import game.controller.replay.ReplayRecorder;
+import game.model.Difficulty;
+import game.model.Dungeon;
 import game.model.Labyrinth;
 import game.model.Player;
+import game.model.content.ContentCatalog;
+import game.monitoring.GameMonitor;
+import game.monitoring.GcPauseMonitor;
+import game.monitoring.MetricsRegistry;
 import game.view.ConsoleView;
 import game.view.GameView;
+import game.view.HeadlessView;
 import game.view.SwingView;
+import game.view.export.MapExporter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 /**
  * Main class that starts the Magical Labyrinth game.
+ * Pass "--record &lt;file&gt;" to record the session, or "--replay &lt;file&gt;"
+ * to play a recording back headlessly at full speed. Metrics are written to
+ * metrics.txt on exit, or to the file given with "--metrics &lt;file&gt;".
+ * Pass "--procedural" to derive rooms from the seed as they are reached
+ * instead of generating the whole labyrinth up front, or "--map &lt;file&gt;"
+ * to play a labyrinth file saved earlier; "--save &lt;file&gt;" writes such a file for the
+ * generated labyrinth and exits. "--export &lt;file&gt;" renders the whole
+ * labyrinth to a PNG image, or to a directory of map tiles if the name doesn't
+ * end in ".png", and exits. "--size &lt;n&gt;" sets the labyrinth's width and height.
+ * "--floors &lt;n&gt;" makes a dungeon of n floors, where each exit leads down to the next.
+ * "--balance &lt;file&gt;" tunes the room ratios and move budget by simulating bot games,
+ * aiming for the win rate given with "--win-rate &lt;r&gt;" (0.5 by default), writes them
+ * to the file and exits. Labyrinths read those settings from difficulty.properties,
+ * except maps given with "--map", which keep the settings they were saved with.
+ * Choose the user interface with "--view=swing" (the default), "--view=console"
+ * for line-by-line text, "--view=ansi" for a full-screen terminal display, or
+ * "--view=headless" to read commands from standard input without showing anything.
  */
 public class MagicalLabyrinth {
-    private static final boolean USE_SWING = true; // Set to false to use console UI on Replit
+    private static final int EXPORT_CELL_SIZE = 8;
+    private static final int DEFAULT_SIZE = 10;
+    private static final double DEFAULT_WIN_RATE = 0.5;
 
     public static void main(String[] args) {
+        Path recordPath = null;
+        Path replayPath = null;
+        Path metricsPath = Paths.get("metrics.txt");
+        Path mapPath = null;
+        Path exportPath = null;
+        Path savePath = null;
+        int size = DEFAULT_SIZE;
+        int floors = 1;
+        Path balancePath = null;
+        double winRate = DEFAULT_WIN_RATE;
+        boolean procedural = false;
+        String viewName = "swing";
+        for (String arg : args) {
+            if (arg.equals("--procedural")) {
+                procedural = true;
+            } else if (arg.startsWith("--view=")) {
+                viewName = arg.substring("--view=".length());
+            }
+        }
+        try {
+            for (int i = 0; i < args.length - 1; i++) {
+                if (args[i].equals("--record")) {
+                    recordPath = Paths.get(args[++i]);
+                } else if (args[i].equals("--replay")) {
+                    replayPath = Paths.get(args[++i]);
+                } else if (args[i].equals("--metrics")) {
+                    metricsPath = Paths.get(args[++i]);
+                } else if (args[i].equals("--map")) {
+                    mapPath = Paths.get(args[++i]);
+                } else if (args[i].equals("--export")) {
+                    exportPath = Paths.get(args[++i]);
+                } else if (args[i].equals("--save")) {
+                    savePath = Paths.get(args[++i]);
+                } else if (args[i].equals("--size")) {
+                    size = parseCount("--size", args[++i]);
+                } else if (args[i].equals("--floors")) {
+                    floors = parseCount("--floors", args[++i]);
+                } else if (args[i].equals("--balance")) {
+                    balancePath = Paths.get(args[++i]);
+                } else if (args[i].equals("--win-rate")) {
+                    winRate = parseWinRate(args[++i]);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return;
+        }
+
+        if (replayPath != null) {
+            replay(replayPath);
+            return;
+        }
+        if (balancePath != null) {
+            balance(balancePath, size, winRate);
+            return;
+        }
+
         System.out.println("Magical Labyrinth: Escape from the Dungeon");
 
-        // Create the model
-        Player player = new Player("Adventurer", 100, 10, 5);
-        Labyrinth labyrinth = new Labyrinth(10, 10); // Create a 10x10 labyrinth
+        MetricsRegistry metrics = MetricsRegistry.global();
+        GcPauseMonitor.install(metrics);
+        Path metricsFile = metricsPath;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                metrics.dump(metricsFile);
+            } catch (IOException e) {
+                System.err.println("Could not write metrics: " + e.getMessage());
+            }
+        }));
 
-        // Create the view
+        // Create the model, generating the labyrinth in the background
+        CompletableFuture<Labyrinth> generation = startGeneration(mapPath, procedural, size);
+        int moveBudget = Difficulty.get().getMoveBudget();
+        if (mapPath != null) {
+            // A saved map brings its own difficulty; opening one doesn't take long
+            Labyrinth map = await(generation);
+            if (map == null) {
+                return;
+            }
+            moveBudget = map.getDifficulty().getMoveBudget();
+        }
+        Player player = new Player("Adventurer", 100, 10, 5, moveBudget);
+        Labyrinth labyrinth;
+        if (exportPath != null || savePath != null) {
+            labyrinth = await(generation);
+            if (labyrinth != null && savePath != null) {
+                save(labyrinth, savePath);
+            }
+            if (labyrinth != null && exportPath != null) {
+                export(labyrinth, player, exportPath);
+            }
+            return;
+        }
+
+        // Create the view. The window appears at once and shows progress until the labyrinth is ready
         GameView view;
-        if (USE_SWING) {
-            view = new SwingView(labyrinth, player);
+        if (viewName.equals("swing")) {
+            SwingView swingView = new SwingView(player);
+            labyrinth = await(generation);
+            if (labyrinth == null) {
+                return;
+            }
+            swingView.setLabyrinth(labyrinth);
+            view = swingView;
         } else {
-            view = new ConsoleView(labyrinth, player);
+            labyrinth = await(generation);
+            if (labyrinth == null) {
+                return;
+            }
+            switch (viewName) {
+                case "console":
+                    view = new ConsoleView(labyrinth, player);
+                    break;
+                case "ansi":
+                    view = new ConsoleView(labyrinth, player, true);
+                    break;
+                case "headless":
+                    view = new HeadlessView(readLines(System.in));
+                    break;
+                default:
+                    System.err.println("Unknown view '" + viewName + "'; use swing, console, ansi or headless");
+                    return;
+            }
         }
 
         // Create the controller
         GameController controller = new GameController(labyrinth, player, view);
+        if (floors > 1) {
+            // The floors below are generated in the background while this one is played
+            controller.setDungeon(new Dungeon(labyrinth, floors));
+        }
+
+        // Expose the session over JMX
+        GameMonitor monitor = new GameMonitor(metrics);
+        if (monitor.register()) {
+            controller.setMonitor(monitor);
+        }
+
+        if (recordPath != null) {
+            try {
+                ReplayRecorder recorder = new ReplayRecorder(recordPath, labyrinth, player, controller);
+                controller.setCommandListener(recorder);
+                // Closing the window exits without ending the session, so finish the file on shutdown
+                Runtime.getRuntime().addShutdownHook(new Thread(recorder::close));
+            } catch (IOException e) {
+                System.err.println("Could not start recording: " + e.getMessage());
+            }
+        }
 
         // Start the game
         controller.startGame();
+
+        if (view instanceof HeadlessView) {
+            HeadlessView headless = (HeadlessView) view;
+            System.out.println("Headless session ended after " + headless.getInputCount() + " inputs: "
+                    + headless.getLastMessage());
+        }
+    }
+
+    /**
+     * Supplies the lines of a stream one at a time, then null once it ends.
+     */
+    private static Supplier<String> readLines(InputStream in) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        return () -> {
+            try {
+                return reader.readLine();
+            } catch (IOException e) {
+                return null;
+            }
+        };
+    }
+
+    /**
+     * Starts creating the labyrinth on a background thread, so a window can be shown meanwhile.
+     * The content catalog is loaded and the monster rooms counted there too, as the game
+     * needs both as soon as it starts.
+     */
+    private static CompletableFuture<Labyrinth> startGeneration(Path mapPath, boolean procedural, int size) {
+        CompletableFuture<Labyrinth> result = new CompletableFuture<>();
+        Thread generator = new Thread(() -> {
+            try {
+                ContentCatalog.get();
+                Labyrinth labyrinth;
+                if (mapPath != null) {
+                    labyrinth = Labyrinth.load(mapPath);
+                } else if (procedural) {
+                    labyrinth = Labyrinth.procedural(size, size, new Random().nextLong());
+                } else {
+                    labyrinth = new Labyrinth(size, size);
+                }
+                result.complete(labyrinth);
+            } catch (IOException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }, "labyrinth-generator");
+        generator.setDaemon(true);
+        generator.start();
+        return result;
+    }
+
+    /**
+     * Waits for the labyrinth, reporting why if it couldn't be created.
+     *
+     * @return The labyrinth, or null if it failed
+     */
+    private static Labyrinth await(CompletableFuture<Labyrinth> generation) {
+        try {
+            return generation.join();
+        } catch (CompletionException e) {
+            System.err.println("Could not create the labyrinth: " + e.getCause().getMessage());
+            return null;
+        }
+    }
+
+    private static void save(Labyrinth labyrinth, Path path) {
+        try {
+            labyrinth.save(path);
+            System.out.println("Saved " + labyrinth.getWidth() + "x" + labyrinth.getHeight()
+                    + " labyrinth to " + path + "; play it with --map " + path);
+        } catch (IOException e) {
+            System.err.println("Could not save " + path + ": " + e.getMessage());
+        }
+    }
+
+    private static void export(Labyrinth labyrinth, Player player, Path path) {
+        MapExporter exporter = new MapExporter(labyrinth, player, EXPORT_CELL_SIZE);
+        try {
+            if (path.getFileName().toString().endsWith(".png")) {
+                exporter.exportPng(path);
+                System.out.println("Exported map to " + path);
+            } else {
+                int zoom = exporter.exportTiles(path);
+                System.out.println("Exported map tiles for zoom levels 0-" + zoom + " to " + path);
+            }
+        } catch (IOException e) {
+            System.err.println("Could not export " + path + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Parses a count given on the command line, such as the labyrinth's size.
+     *
+     * @throws IllegalArgumentException If the value isn't a whole number of at least 1
+     */
+    private static int parseCount(String option, String value) {
+        int count;
+        try {
+            count = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(option + " needs a whole number, not '" + value + "'");
+        }
+        if (count < 1) {
+            throw new IllegalArgumentException(option + " must be at least 1, not " + count);
+        }
+        return count;
+    }
+
+    /**
+     * Parses the target win rate given with "--win-rate".
+     *
+     * @throws IllegalArgumentException If the value isn't a number from 0 to 1
+     */
+    private static double parseWinRate(String value) {
+        double winRate;
+        try {
+            winRate = Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            winRate = Double.NaN;
+        }
+        if (!(winRate >= 0 && winRate <= 1)) {
+            throw new IllegalArgumentException("--win-rate needs a number from 0 to 1, not '" + value + "'");
+        }
+        return winRate;
+    }
+
+    private static void balance(Path path, int size, double winRate) {
+        Balancer balancer = new Balancer(size, size, Balancer.DEFAULT_GAMES);
+        System.out.println("Balancing " + size + "x" + size + " labyrinths for a win rate of "
+                + Math.round(winRate * 100) + "%, " + Balancer.DEFAULT_GAMES + " games per candidate");
+        SimulationResult result = balancer.balance(Difficulty.get(), winRate, Balancer.DEFAULT_TOLERANCE,
+                System.out::println);
+        try {
+            String comment = String.format("Balanced by simulation: win rate %.1f%%, %.1f moves on average",
+                    result.getWinRate() * 100, result.getAverageMoves());
+            result.getDifficulty().save(path, comment);
+            System.out.println("Wrote " + result.getDifficulty() + " to " + path);
+        } catch (IOException e) {
+            System.err.println("Could not write " + path + ": " + e.getMessage());
+        }
+    }
+
+    private static void replay(Path path) {
+        try {
+            System.out.println(new ReplayPlayer(path).play());
+        } catch (IOException e) {
+            System.err.println("Could not replay " + path + ": " + e.getMessage());
+        }
     }
-}
\ No newline at end of file
+}
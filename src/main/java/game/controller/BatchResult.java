@@ -0,0 +1,74 @@
+package game.controller;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcome of running a sequence of commands through {@link GameController#executeBatch}.
+ */
+public class BatchResult {
+
+    /**
+     * Why a batch stopped running.
+     */
+    public enum StopReason {
+        COMPLETED,
+        DIED,
+        TRAPPED,
+        DESCENDED,
+        VICTORY,
+        GAME_ENDED
+    }
+
+    private final List<String> messages;
+    private final int executed;
+    private final int requested;
+    private final StopReason stopReason;
+
+    /**
+     * Creates a new batch result.
+     *
+     * @param messages   The messages produced while the batch ran
+     * @param executed   The number of commands that were executed
+     * @param requested  The number of commands in the batch
+     * @param stopReason Why the batch stopped
+     */
+    public BatchResult(List<String> messages, int executed, int requested, StopReason stopReason) {
+        this.messages = Collections.unmodifiableList(messages);
+        this.executed = executed;
+        this.requested = requested;
+        this.stopReason = stopReason;
+    }
+
+    /**
+     * Checks if the batch stopped before running all of its commands.
+     *
+     * @return true if the batch stopped early, false otherwise
+     */
+    public boolean stoppedEarly() {
+        return executed < requested;
+    }
+
+    // Getters
+
+    public List<String> getMessages() {
+        return messages;
+    }
+
+    public int getExecuted() {
+        return executed;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public StopReason getStopReason() {
+        return stopReason;
+    }
+
+    @Override
+    public String toString() {
+        return "Batch " + executed + "/" + requested + " (" + stopReason + ")";
+    }
+}
@@ -0,0 +1,21 @@
+package game.controller;
+
+import game.model.command.Command;
+
+/**
+ * Listener notified by the {@link GameController} about the commands it executes.
+ */
+public interface CommandListener {
+
+    /**
+     * Called after a command and its end-of-turn checks have run.
+     *
+     * @param command The executed command
+     */
+    void commandExecuted(Command command);
+
+    /**
+     * Called when the game session has ended.
+     */
+    void sessionEnded();
+}
@@ -0,0 +1,180 @@
+package game.controller;
+
+import game.model.Direction;
+import game.model.command.Command;
+import game.model.command.Verb;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses raw player input into commands using precompiled lookup tables.
+ * Fixed phrases resolve to shared command instances; verbs that take an
+ * argument ("move", "answer", "solve") are matched on their first word.
+ */
+public class CommandParser {
+    private static final Map<String, Command> PHRASES = new HashMap<>();
+    private static final Map<String, Verb> ARGUMENT_VERBS = new HashMap<>();
+    private static final Map<String, Direction> DIRECTIONS = new HashMap<>();
+    private static int maxPhraseWords = 1;
+
+    static {
+        DIRECTIONS.put("north", Direction.NORTH);
+        DIRECTIONS.put("n", Direction.NORTH);
+        DIRECTIONS.put("south", Direction.SOUTH);
+        DIRECTIONS.put("s", Direction.SOUTH);
+        DIRECTIONS.put("east", Direction.EAST);
+        DIRECTIONS.put("e", Direction.EAST);
+        DIRECTIONS.put("west", Direction.WEST);
+        DIRECTIONS.put("w", Direction.WEST);
+
+        phrase(Verb.HELP, "help", "?");
+        phrase(Verb.LOOK, "look", "examine room");
+        phrase(Verb.INVENTORY, "inventory", "items");
+        phrase(Verb.STATUS, "status", "stats");
+        phrase(Verb.AGGRESSIVE, "aggressive", "attack mode");
+        phrase(Verb.DEFENSIVE, "defensive", "defense mode");
+        phrase(Verb.MAGIC, "magic", "magic mode");
+        phrase(Verb.QUIT, "quit", "exit game");
+        phrase(Verb.ATTACK, "attack", "fight");
+        phrase(Verb.EXAMINE, "examine", "inspect");
+        phrase(Verb.SNEAK, "sneak", "hide");
+        phrase(Verb.SOLVE, "solve");
+        phrase(Verb.ANSWER, "answer");
+        phrase(Verb.HINT, "hint");
+        phrase(Verb.SEARCH, "search");
+        phrase(Verb.TAKE, "take", "loot", "take treasure", "collect", "gather");
+        phrase(Verb.OPEN, "open", "exit", "escape", "leave");
+        phrase(Verb.DISARM, "disarm", "disable");
+        phrase(Verb.AVOID, "avoid", "jump over", "bypass");
+
+        // Bare directions and "move <direction>" are precompiled as well
+        for (Map.Entry<String, Direction> entry : DIRECTIONS.entrySet()) {
+            String word = entry.getKey();
+            PHRASES.put(word, new Command(Verb.MOVE, word, word, entry.getValue()));
+            String moveText = "move " + word;
+            PHRASES.put(moveText, new Command(Verb.MOVE, moveText, word, entry.getValue()));
+        }
+
+        ARGUMENT_VERBS.put("move", Verb.MOVE);
+        ARGUMENT_VERBS.put("answer", Verb.ANSWER);
+        ARGUMENT_VERBS.put("solve", Verb.SOLVE);
+    }
+
+    private static void phrase(Verb verb, String... aliases) {
+        for (String alias : aliases) {
+            PHRASES.put(alias, new Command(verb, alias, "", null));
+            maxPhraseWords = Math.max(maxPhraseWords, alias.split(" ").length);
+        }
+    }
+
+    /**
+     * Parses a line of player input into a command.
+     *
+     * @param input The raw input
+     * @return The parsed command, or null if the input is blank
+     */
+    public Command parse(String input) {
+        if (input == null) {
+            return null;
+        }
+
+        String text = normalize(input);
+        if (text.isEmpty()) {
+            return null;
+        }
+
+        Command command = PHRASES.get(text);
+        if (command != null) {
+            return command;
+        }
+
+        int space = text.indexOf(' ');
+        if (space > 0) {
+            Verb verb = ARGUMENT_VERBS.get(text.substring(0, space));
+            if (verb != null) {
+                String argument = text.substring(space + 1);
+                Direction direction = verb == Verb.MOVE ? DIRECTIONS.get(argument) : null;
+                return new Command(verb, text, argument, direction);
+            }
+        }
+
+        return new Command(Verb.UNKNOWN, text, "", null);
+    }
+
+    /**
+     * Splits a pipelined input line into individual command texts.
+     * Commands may be separated by ';' or simply by spaces ("n n e e attack take");
+     * in the latter case the longest known phrase wins. "answer" and "solve"
+     * consume the rest of their ';'-separated segment as the answer.
+     *
+     * @param line The input line
+     * @return The command texts in order
+     */
+    public List<String> splitSequence(String line) {
+        List<String> commands = new ArrayList<>();
+        if (line == null) {
+            return commands;
+        }
+
+        for (String segment : line.split(";")) {
+            String text = normalize(segment);
+            if (text.isEmpty()) {
+                continue;
+            }
+
+            String[] tokens = text.split(" ");
+            int i = 0;
+            while (i < tokens.length) {
+                String token = tokens[i];
+                Verb argumentVerb = ARGUMENT_VERBS.get(token);
+
+                if ((argumentVerb == Verb.ANSWER || argumentVerb == Verb.SOLVE) && i + 1 < tokens.length) {
+                    commands.add(join(tokens, i, tokens.length));
+                    break;
+                }
+
+                int matched = 0;
+                for (int words = Math.min(maxPhraseWords, tokens.length - i); words > 0; words--) {
+                    if (PHRASES.containsKey(join(tokens, i, i + words))) {
+                        matched = words;
+                        break;
+                    }
+                }
+
+                if (matched == 0 && argumentVerb == Verb.MOVE && i + 1 < tokens.length) {
+                    matched = 2; // "move <something>", reported as an invalid direction later
+                }
+                if (matched == 0) {
+                    matched = 1;
+                }
+
+                commands.add(join(tokens, i, i + matched));
+                i += matched;
+            }
+        }
+
+        return commands;
+    }
+
+    private static String join(String[] tokens, int from, int to) {
+        if (to - from == 1) {
+            return tokens[from];
+        }
+        return String.join(" ", Arrays.asList(tokens).subList(from, to));
+    }
+
+    /**
+     * Lowercases and trims the input and collapses runs of whitespace.
+     */
+    private String normalize(String input) {
+        String text = input.toLowerCase().trim();
+        if (text.indexOf("  ") < 0 && text.indexOf('\t') < 0) {
+            return text;
+        }
+        return text.replaceAll("\\s+", " ");
+    }
+}
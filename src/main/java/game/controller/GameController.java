@@ -4,20 +4,52 @@ import game.model.*;
 import game.model.combat.AggressiveStrategy;
 import game.model.combat.DefensiveStrategy;
 import game.model.combat.MagicStrategy;
+import game.model.command.Command;
+import game.model.command.Verb;
 import game.model.rooms.Room;
+import game.model.rooms.RoomType;
+import game.monitoring.CommandEvent;
+import game.monitoring.Counter;
+import game.monitoring.GameMonitor;
+import game.monitoring.GameSnapshot;
+import game.monitoring.Histogram;
+import game.monitoring.MetricsRegistry;
+import game.monitoring.RoomEnterEvent;
 import game.view.GameView;
 
-import java.util.Scanner;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
 /**
  * Controller class handling game logic and user input.
  */
 public class GameController {
     private Labyrinth labyrinth;
+    private Dungeon dungeon; // Null for a single-floor game
     private Player player;
     private GameView view;
     private boolean gameRunning;
-    private Scanner scanner;
+    private final CommandParser parser;
+    private final Map<Verb, Consumer<Command>> handlers;
+    private List<String> batchOutput;
+    private boolean pipelinedInput;
+    private CommandListener commandListener;
+    
+    // Session statistics published to the monitor
+    private GameMonitor monitor;
+    private Map<RoomType, Integer> roomCounts;
+    private int visitedRooms; // On the current floor, like roomCounts
+    
+    // Mixed into the world seed so gameplay rolls don't mirror generation rolls
+    private static final long SESSION_SEED_SALT = 0x5DEECE66DL;
+    
+    private static final Counter COMMANDS = MetricsRegistry.global().counter(MetricsRegistry.COMMANDS);
+    private static final Histogram COMMAND_LATENCY = MetricsRegistry.global().histogram(MetricsRegistry.COMMAND_LATENCY);
     
     /**
      * Creates a new game controller.
@@ -31,14 +63,20 @@ public class GameController {
         this.player = player;
         this.view = view;
         this.gameRunning = false;
-        this.scanner = new Scanner(System.in);
+        this.parser = new CommandParser();
+        this.handlers = new EnumMap<>(Verb.class);
+        registerHandlers();
     }
     
     /**
-     * Starts the game loop.
+     * Starts a new session: reseeds gameplay randomness from the world seed,
+     * greets the player and places them in the starting room.
+     * 
+     * @return true if the session started, false if the starting room is missing
      */
-    public void startGame() {
+    public synchronized boolean beginSession() {
         gameRunning = true;
+        GameRandom.reseed(labyrinth.getSeed() ^ SESSION_SEED_SALT);
         
         // Display welcome message
         view.displayMessage("Welcome to the Magical Labyrinth!");
@@ -47,117 +85,421 @@ public class GameController {
         view.displayMessage("Type 'help' for a list of commands.\n");
         
         // Put player in the starting room (0,0)
-        player.setPosition(new Position(0, 0));
+        player.setPosition(Position.of(0, 0));
         Room currentRoom = labyrinth.getRoomAt(player.getPosition());
         
         if (currentRoom != null) {
-            view.displayMessage(currentRoom.onEnter(player));
+            view.displayMessage(enterRoom(currentRoom));
         } else {
             view.displayMessage("ERROR: Starting room is null!");
+            gameRunning = false;
+            return false;
+        }
+        
+        publishSnapshot();
+        return true;
+    }
+    
+    /**
+     * Starts the game loop.
+     */
+    public void startGame() {
+        if (!beginSession()) {
             return;
         }
         
         // Main game loop
+        boolean viewCurrent = false;
         while (gameRunning) {
             // Update view
-            view.update();
+            if (!viewCurrent) {
+                view.update();
+            }
+            viewCurrent = false;
             
             // Get and process player command
-            String command = view.getPlayerInput("What will you do? ");
-            processCommand(command);
+            String input = view.getPlayerInput("What will you do? ");
             
-            // Check if player is still alive
-            if (player.getHealth() <= 0) {
-                view.displayMessage("GAME OVER! You have died in the labyrinth.");
-                gameRunning = false;
+            if (input != null && (pipelinedInput || input.indexOf(';') >= 0)) {
+                // Run the whole line as one batch; it refreshes the view itself
+                executeBatch(parser.splitSequence(input));
+                viewCurrent = true;
+            } else {
+                synchronized (this) {
+                    processCommand(input);
+                }
             }
-            
-            // Check if player has reached the exit
-            if (labyrinth.isAtExit(player.getPosition())) {
-                Room exitRoom = labyrinth.getRoomAt(player.getPosition());
-                String message = exitRoom.onInteract(player, "open");
+        }
+        
+        // Game ended
+        view.displayMessage("Thanks for playing Magical Labyrinth!");
+        if (commandListener != null) {
+            commandListener.sessionEnded();
+        }
+    }
+    
+    /**
+     * Runs a single already-parsed command, including the end-of-turn checks,
+     * without refreshing the view. Used to drive the game without a player.
+     * 
+     * @param command The command to run
+     * @return true if the game is still running afterwards, false otherwise
+     */
+    public synchronized boolean step(Command command) {
+        runCommand(command);
+        return gameRunning;
+    }
+    
+    /**
+     * Computes a hash of the observable game state, used to verify that a replay
+     * has reached the same state as the original session.
+     * 
+     * @return The state hash
+     */
+    public synchronized long stateHash() {
+        long hash = 17;
+        hash = hash * 31 + player.getHealth();
+        hash = hash * 31 + player.getMaxHealth();
+        hash = hash * 31 + player.getAttack();
+        hash = hash * 31 + player.getDefense();
+        hash = hash * 31 + player.getLevel();
+        hash = hash * 31 + player.getExperience();
+        hash = hash * 31 + player.getPosition().getX();
+        hash = hash * 31 + player.getPosition().getY();
+        hash = hash * 31 + player.getRemainingMoves();
+        hash = hash * 31 + (player.isTrapped() ? 1 : 0);
+        hash = hash * 31 + player.getInventory().size();
+        hash = hash * 31 + (gameRunning ? 1 : 0);
+        if (dungeon != null) {
+            hash = hash * 31 + dungeon.getDepth();
+        }
+        return hash;
+    }
+    
+    /**
+     * Sets the listener notified about every executed command, e.g. a replay recorder.
+     * 
+     * @param commandListener The listener, or null to remove it
+     */
+    public void setCommandListener(CommandListener commandListener) {
+        this.commandListener = commandListener;
+    }
+    
+    /**
+     * Sets the monitor that receives a snapshot of the game after every command.
+     * The per-type room counts come from the labyrinth's room index and the number
+     * of enemies left from its enemy registry.
+     * 
+     * @param monitor The monitor, or null to stop publishing
+     */
+    public synchronized void setMonitor(GameMonitor monitor) {
+        this.monitor = monitor;
+        if (monitor == null) {
+            return;
+        }
+        
+        countRooms();
+        publishSnapshot();
+    }
+    
+    /**
+     * Makes the game a multi-level dungeon: reaching the exit of a floor leads down to
+     * the next one, and only escaping from the bottom floor wins the game. The dungeon's
+     * top floor must be the labyrinth this controller was created with.
+     * 
+     * @param dungeon The dungeon, or null for a single-floor game
+     */
+    public synchronized void setDungeon(Dungeon dungeon) {
+        this.dungeon = dungeon;
+    }
+    
+    /**
+     * Gets the dungeon being played.
+     * 
+     * @return The dungeon, or null for a single-floor game
+     */
+    public Dungeon getDungeon() {
+        return dungeon;
+    }
+    
+    /**
+     * Counts the current labyrinth's rooms by type for the monitor.
+     */
+    private void countRooms() {
+        Map<RoomType, Integer> counts = new EnumMap<>(RoomType.class);
+        for (RoomType type : RoomType.values()) {
+            int count = labyrinth.countRooms(type);
+            if (count > 0) {
+                counts.put(type, count);
+            }
+        }
+        roomCounts = Collections.unmodifiableMap(counts);
+    }
+    
+    /**
+     * Checks if the game is still running.
+     * 
+     * @return true if running, false otherwise
+     */
+    public boolean isGameRunning() {
+        return gameRunning;
+    }
+    
+    /**
+     * Runs a sequence of commands as one atomic unit and collects their output.
+     * The batch stops early if the player dies, becomes trapped, goes down a floor, wins
+     * or the game ends, and the view is refreshed once at the end instead of after every command.
+     * 
+     * @param commands The raw command texts to run in order
+     * @return The result of the batch
+     */
+    public synchronized BatchResult executeBatch(List<String> commands) {
+        List<String> messages = new ArrayList<>();
+        batchOutput = messages;
+        
+        int executed = 0;
+        BatchResult.StopReason stopReason = BatchResult.StopReason.COMPLETED;
+        try {
+            for (String input : commands) {
+                if (!gameRunning) {
+                    stopReason = BatchResult.StopReason.GAME_ENDED;
+                    break;
+                }
+                
+                boolean wasTrapped = player.isTrapped();
+                BatchResult.StopReason reason = processCommand(input);
+                executed++;
                 
-                if (message.startsWith("VICTORY")) {
-                    view.displayMessage(message);
-                    view.displayMessage("Congratulations! You have escaped the magical labyrinth!");
-                    gameRunning = false;
+                if (reason == null && !wasTrapped && player.isTrapped()) {
+                    reason = BatchResult.StopReason.TRAPPED;
                 }
-            } else if (command.startsWith("solve ")) {
-                String answer = command.substring(6).trim();
-
-                if (player.solveTrap(answer)) {
-                    view.displayMessage("Correct! You solved the puzzle and escaped the trap.");
-                } else {
-                    view.displayMessage("Incorrect. Try again.");
+                if (reason != null) {
+                    stopReason = reason;
+                    break;
                 }
-
             }
+        } finally {
+            batchOutput = null;
         }
         
-        // Game ended
-        view.displayMessage("Thanks for playing Magical Labyrinth!");
-        scanner.close();
+        for (String message : messages) {
+            view.displayMessage(message);
+        }
+        view.update();
+        
+        return new BatchResult(messages, executed, commands.size(), stopReason);
+    }
+    
+    /**
+     * Enables or disables pipelined input. When enabled, every input line is split
+     * into a sequence of commands (e.g. "n n e e attack take") and run as a batch.
+     * Lines containing ';' are always run as a batch.
+     * 
+     * @param pipelinedInput true to enable pipelined input
+     */
+    public void setPipelinedInput(boolean pipelinedInput) {
+        this.pipelinedInput = pipelinedInput;
+    }
+    
+    /**
+     * Checks whether the game has been won, lost or ended after a command.
+     * 
+     * @return The reason the game stopped, or null if it continues
+     */
+    private BatchResult.StopReason checkGameState() {
+        // Check if player is still alive
+        if (player.getHealth() <= 0) {
+            display("GAME OVER! You have died in the labyrinth.");
+            gameRunning = false;
+            return BatchResult.StopReason.DIED;
+        }
+        
+        // Check if player has reached the exit
+        if (labyrinth.isAtExit(player.getPosition())) {
+            Room exitRoom = labyrinth.getRoomAt(player.getPosition());
+            String message = exitRoom.onInteract(player, Command.of(Verb.OPEN));
+            
+            if (message.startsWith("VICTORY")) {
+                if (dungeon != null && dungeon.hasNextFloor()) {
+                    return descend() ? BatchResult.StopReason.DESCENDED : null;
+                }
+                display(message);
+                display("Congratulations! You have escaped the magical labyrinth!");
+                gameRunning = false;
+                return BatchResult.StopReason.VICTORY;
+            }
+        }
+        
+        return gameRunning ? null : BatchResult.StopReason.GAME_ENDED;
+    }
+    
+    /**
+     * Takes the stairs behind the exit down to the dungeon's next floor, which has
+     * usually been generated in the background already, and puts the player at its start.
+     * If the floor can't be generated the player stays at the exit, and the stairs are
+     * tried again after the next command.
+     * 
+     * @return true if the player went down, false if the floor could not be generated
+     */
+    private boolean descend() {
+        try {
+            labyrinth = dungeon.descend();
+        } catch (CompletionException e) {
+            display("The stairway down is blocked: the next floor could not be built (" + e.getCause() + ").");
+            return false;
+        }
+        player.setPosition(Position.of(0, 0));
+        view.setLabyrinth(labyrinth);
+        visitedRooms = 0;
+        if (monitor != null) {
+            countRooms();
+        }
+        
+        display("The door opens onto a stairway leading down. You descend to floor "
+                + (dungeon.getDepth() + 1) + " of " + dungeon.getFloorCount() + ".");
+        display(enterRoom(labyrinth.getRoomAt(player.getPosition())));
+        return true;
+    }
+    
+    /**
+     * Shows a message, or collects it when a batch is running.
+     * 
+     * @param message The message to show
+     */
+    private void display(String message) {
+        if (batchOutput != null) {
+            batchOutput.add(message);
+        } else {
+            view.displayMessage(message);
+        }
     }
     
     /**
      * Processes a player command.
      * 
-     * @param command The command to process
+     * @param input The raw command text to process
+     * @return The reason the game stopped, or null if it continues
      */
-    private void processCommand(String command) {
-
-        if (command == null || command.isEmpty()) {
-            view.displayMessage("Please enter a command.");
-            return;
+    private BatchResult.StopReason processCommand(String input) {
+        Command command = parser.parse(input);
+        if (command == null) {
+            display("Please enter a command.");
+            return null;
         }
 
-
-        command = command.toLowerCase().trim();
+        return runCommand(command);
+    }
+    
+    /**
+     * Dispatches a parsed command, runs the end-of-turn checks and notifies the listener.
+     * 
+     * @param command The command to run
+     * @return The reason the game stopped, or null if it continues
+     */
+    private BatchResult.StopReason runCommand(Command command) {
+        long start = System.nanoTime();
+        CommandEvent event = new CommandEvent();
+        event.begin();
         
-        if (command.equals("help") || command.equals("?")) {
-            displayHelp();
-        } else if (command.equals("look") || command.equals("examine room")) {
+        // What the model reports while the command runs goes to this game's view
+        Consumer<String> previousLog = GameLog.route(this::display);
+        BatchResult.StopReason reason;
+        try {
+            Consumer<Command> handler = handlers.get(command.getVerb());
+            if (handler != null) {
+                handler.accept(command);
+            } else {
+                interactWithRoom(command);
+            }
+            
+            reason = checkGameState();
+        } finally {
+            GameLog.route(previousLog);
+        }
+        
+        if (event.shouldCommit()) {
+            event.verb = command.getVerb().name();
+            event.text = command.getText();
+            event.commit();
+        }
+        COMMANDS.increment();
+        COMMAND_LATENCY.recordSince(start);
+        publishSnapshot();
+        
+        // A cancelled quit changes nothing, so it is not reported
+        if (commandListener != null && (!command.is(Verb.QUIT) || !gameRunning)) {
+            commandListener.commandExecuted(command);
+        }
+        
+        return reason;
+    }
+    
+    /**
+     * Builds the dispatch table for commands handled by the controller itself.
+     * Verbs without an entry are passed on to the current room.
+     */
+    private void registerHandlers() {
+        handlers.put(Verb.HELP, command -> displayHelp());
+        handlers.put(Verb.LOOK, command -> {
             Room currentRoom = labyrinth.getRoomAt(player.getPosition());
-            view.displayMessage(currentRoom.onEnter(player));
-        } else if (command.equals("inventory") || command.equals("items")) {
-            displayInventory();
-        } else if (command.equals("status") || command.equals("stats")) {
-            displayPlayerStatus();
-        } else if (command.startsWith("move ") || command.equals("north") || command.equals("south") || 
-                   command.equals("east") || command.equals("west") || command.equals("n") || 
-                   command.equals("s") || command.equals("e") || command.equals("w")) {
-            movePlayer(command);
-        } else if (command.equals("aggressive") || command.equals("attack mode")) {
+            display(currentRoom.onEnter(player));
+        });
+        handlers.put(Verb.INVENTORY, command -> displayInventory());
+        handlers.put(Verb.STATUS, command -> displayPlayerStatus());
+        handlers.put(Verb.MOVE, this::movePlayer);
+        handlers.put(Verb.AGGRESSIVE, command -> {
             player.setCombatStrategy(new AggressiveStrategy());
-            view.displayMessage("You switch to an aggressive combat stance.");
-        } else if (command.equals("defensive") || command.equals("defense mode")) {
+            display("You switch to an aggressive combat stance.");
+        });
+        handlers.put(Verb.DEFENSIVE, command -> {
             player.setCombatStrategy(new DefensiveStrategy());
-            view.displayMessage("You switch to a defensive combat stance.");
-        } else if (command.equals("magic") || command.equals("magic mode")) {
+            display("You switch to a defensive combat stance.");
+        });
+        handlers.put(Verb.MAGIC, command -> {
             player.setCombatStrategy(new MagicStrategy());
-            view.displayMessage("You prepare to use magical combat techniques.");
-        } else if (command.equals("quit") || command.equals("exit game")) {
+            display("You prepare to use magical combat techniques.");
+        });
+        handlers.put(Verb.QUIT, command -> {
+            if (batchOutput != null) {
+                // Batches run unattended, so there is nobody to confirm with
+                gameRunning = false;
+                return;
+            }
             view.displayMessage("Are you sure you want to quit? (y/n)");
             String confirm = view.getPlayerInput("").toLowerCase();
             if (confirm.startsWith("y")) {
                 gameRunning = false;
-            } else if (command.startsWith("solve ")) {
-                String answer = command.substring(6).trim().toLowerCase();
-
-                // Условно правильный ответ (можешь сделать динамическим)
-                if (answer.equals("shadow")) {
-                    player.setTrapped(false);
-                    view.displayMessage("Correct! You solved the puzzle and escaped the trap.");
-                } else {
-                    view.displayMessage("Incorrect. Try again.");
-                }
-
             }
+        });
+        handlers.put(Verb.SOLVE, this::solve);
+    }
+    
+    /**
+     * Passes a command to the current room for interaction.
+     * 
+     * @param command The command to pass on
+     */
+    private void interactWithRoom(Command command) {
+        Room currentRoom = labyrinth.getRoomAt(player.getPosition());
+        String result = currentRoom.onInteract(player, command);
+        display(result);
+    }
+    
+    /**
+     * Answers the trap riddle if the player is trapped, otherwise lets the room handle it.
+     * 
+     * @param command The solve command
+     */
+    private void solve(Command command) {
+        if (!player.isTrapped() || !command.hasArgument()) {
+            interactWithRoom(command);
+            return;
+        }
+
+        if (player.solveTrap(command.getArgument())) {
+            display("Correct! You solved the puzzle and escaped the trap.");
         } else {
-            // Pass other commands to the current room for interaction
-            Room currentRoom = labyrinth.getRoomAt(player.getPosition());
-            String result = currentRoom.onInteract(player, command);
-            view.displayMessage(result);
+            display("Incorrect. Try again.");
         }
     }
     
@@ -165,20 +507,21 @@ public class GameController {
      * Displays help information to the player.
      */
     private void displayHelp() {
-        view.displayMessage("Available commands:");
-        view.displayMessage("- move (north/south/east/west) or n/s/e/w: Move in a direction");
-        view.displayMessage("- look/examine room: Look around the current room");
-        view.displayMessage("- inventory/items: Check your inventory");
-        view.displayMessage("- status/stats: Display your character stats");
-        view.displayMessage("- aggressive/attack mode: Switch to aggressive combat strategy");
-        view.displayMessage("- defensive/defense mode: Switch to defensive combat strategy");
-        view.displayMessage("- magic/magic mode: Switch to magic combat strategy");
-        view.displayMessage("- examine [object]: Examine something in the room");
-        view.displayMessage("- attack/fight: Fight an enemy if present");
-        view.displayMessage("- take/loot: Collect items");
-        view.displayMessage("- solve/answer [solution]: Solve a puzzle");
-        view.displayMessage("- open/exit: Interact with exits");
-        view.displayMessage("- quit/exit game: Quit the game");
+        display("Available commands:");
+        display("- move (north/south/east/west) or n/s/e/w: Move in a direction");
+        display("- look/examine room: Look around the current room");
+        display("- inventory/items: Check your inventory");
+        display("- status/stats: Display your character stats");
+        display("- aggressive/attack mode: Switch to aggressive combat strategy");
+        display("- defensive/defense mode: Switch to defensive combat strategy");
+        display("- magic/magic mode: Switch to magic combat strategy");
+        display("- examine [object]: Examine something in the room");
+        display("- attack/fight: Fight an enemy if present");
+        display("- take/loot: Collect items");
+        display("- solve/answer [solution]: Solve a puzzle");
+        display("- open/exit: Interact with exits");
+        display("- quit/exit game: Quit the game");
+        display("- Separate commands with ';' to run several at once (e.g. n; n; attack)");
     }
     
     /**
@@ -186,11 +529,11 @@ public class GameController {
      */
     private void displayInventory() {
         if (player.getInventory().isEmpty()) {
-            view.displayMessage("Your inventory is empty.");
+            display("Your inventory is empty.");
         } else {
-            view.displayMessage("Inventory:");
-            for (Artifact artifact : player.getInventory()) {
-                view.displayMessage("- " + artifact.toString());
+            display("Inventory:");
+            for (Inventory.Stack stack : player.getInventory().getStacks()) {
+                display("- " + stack.toString());
             }
         }
     }
@@ -199,9 +542,51 @@ public class GameController {
      * Displays the player's status and stats.
      */
     private void displayPlayerStatus() {
-        view.displayMessage(player.toString());
-        view.displayMessage("Position: " + player.getPosition());
-        view.displayMessage("Combat Style: " + player.getCombatStrategy().getClass().getSimpleName());
+        display(player.toString());
+        display("Position: " + player.getPosition());
+        display("Combat Style: " + player.getCombatStrategy().getClass().getSimpleName());
+    }
+    
+    /**
+     * Hands the monitor an immutable copy of the current game state.
+     */
+    private void publishSnapshot() {
+        if (monitor == null) {
+            return;
+        }
+        
+        Position position = player.getPosition();
+        monitor.publish(new GameSnapshot(labyrinth.getSeed(), labyrinth.getWidth(), labyrinth.getHeight(),
+                roomCounts, visitedRooms, labyrinth.getEnemyRegistry().getAliveCount(), player.getName(),
+                player.getHealth(), player.getMaxHealth(), player.getAttack(), player.getDefense(),
+                player.getLevel(), player.getExperience(), player.getRemainingMoves(),
+                position.getX(), position.getY(), player.isTrapped(), player.getInventory().size(),
+                gameRunning));
+    }
+    
+    /**
+     * Lets the player enter a room and reports it to Flight Recorder.
+     * 
+     * @param room The room being entered
+     * @return The room's description of what happens
+     */
+    private String enterRoom(Room room) {
+        RoomEnterEvent event = new RoomEnterEvent();
+        event.begin();
+        boolean firstVisit = !room.isVisited();
+        String message = room.onEnter(player);
+        if (firstVisit && room.isVisited()) {
+            visitedRooms++;
+        }
+        
+        if (event.shouldCommit()) {
+            event.roomType = room.getType().name();
+            event.x = room.getPosition().getX();
+            event.y = room.getPosition().getY();
+            event.commit();
+        }
+        
+        return message;
     }
     
     /**
@@ -209,59 +594,37 @@ public class GameController {
      * 
      * @param command The movement command
      */
-    private void movePlayer(String command) {
+    private void movePlayer(Command command) {
         if (player.isTrapped()) {
-            view.displayMessage("You are trapped and cannot move until you solve the puzzle!");
+            display("You are trapped and cannot move until you solve the puzzle!");
             return;
         }
 
         if (!player.hasMovesLeft()) {
-            view.displayMessage("You have no more moves left!");
+            display("You have no more moves left!");
             gameRunning = false;
             return;
         }
 
-        Direction direction = null;
-        
-        if (command.equals("north") || command.equals("n") || command.equals("move north")) {
-            direction = Direction.NORTH;
-        } else if (command.equals("south") || command.equals("s") || command.equals("move south")) {
-            direction = Direction.SOUTH;
-        } else if (command.equals("east") || command.equals("e") || command.equals("move east")) {
-            direction = Direction.EAST;
-        } else if (command.equals("west") || command.equals("w") || command.equals("move west")) {
-            direction = Direction.WEST;
-        } else if (command.startsWith("move ")) {
-            String dir = command.substring(5).trim();
-            if (dir.equals("north") || dir.equals("n")) {
-                direction = Direction.NORTH;
-            } else if (dir.equals("south") || dir.equals("s")) {
-                direction = Direction.SOUTH;
-            } else if (dir.equals("east") || dir.equals("e")) {
-                direction = Direction.EAST;
-            } else if (dir.equals("west") || dir.equals("w")) {
-                direction = Direction.WEST;
-            }
-        }
+        Direction direction = command.getDirection();
         
         if (direction != null) {
             // Check if move is valid
             Position newPosition = player.getPosition().adjacent(direction);
             if (labyrinth.isValidMove(newPosition)) {
-                // Update player position
-                player.setPosition(newPosition);
+                // Update player position; this also ends the turn for timed effects
+                player.move(direction);
                 
                 // Get and display information about the new room
                 Room newRoom = labyrinth.getRoomAt(newPosition);
-                view.displayMessage(newRoom.onEnter(player));
-                player.decrementMoves();
-                view.displayMessage("Remaining moves: " + player.getRemainingMoves());
+                display(enterRoom(newRoom));
+                display("Remaining moves: " + player.getRemainingMoves());
 
             } else {
-                view.displayMessage("You can't go that way. There's a wall or the edge of the labyrinth.");
+                display("You can't go that way. There's a wall or the edge of the labyrinth.");
             }
         } else {
-            view.displayMessage("Invalid direction. Use north, south, east, or west.");
+            display("Invalid direction. Use north, south, east, or west.");
         }
     }
 }
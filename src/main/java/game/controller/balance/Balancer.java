@@ -0,0 +1,231 @@
+package game.controller.balance;
+
+import game.controller.BatchResult;
+import game.controller.GameController;
+import game.model.Difficulty;
+import game.model.GameRandom;
+import game.model.Labyrinth;
+import game.model.Player;
+import game.model.rooms.RoomType;
+import game.view.HeadlessView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Tunes the difficulty settings by simulation. Each set of settings is scored by playing
+ * a batch of headless games with {@link BotPlayer}s in parallel and measuring the win rate.
+ *
+ * The search is a pattern search over the four room ratios and the move budget: every
+ * round tries scaling each ratio up and down by the current step factor and moving the
+ * budget by the matching amount, and keeps the candidate whose win rate is closest to the
+ * target. When no candidate improves on the current settings the step shrinks. Every
+ * candidate plays the same labyrinth seeds, so differences between candidates come from the
+ * settings rather than from luck.
+ */
+public class Balancer {
+    public static final int DEFAULT_GAMES = 200;
+    public static final double DEFAULT_TOLERANCE = 0.02;
+
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+    private static final RoomType[] TUNED_TYPES = {
+            RoomType.PUZZLE, RoomType.TREASURE, RoomType.MONSTER, RoomType.TRAP};
+    private static final double INITIAL_STEP = 1.5;
+    private static final double MIN_STEP = 1.02;
+    private static final int MAX_ROUNDS = 12;
+    private static final double MIN_RATIO = 2;
+    private static final double MAX_RATIO = 100;
+
+    private final int width;
+    private final int height;
+    private final int games;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a balancer that simulates on the common fork/join pool.
+     *
+     * @param width  Width of the simulated labyrinths
+     * @param height Height of the simulated labyrinths
+     * @param games  Number of games played per candidate
+     */
+    public Balancer(int width, int height, int games) {
+        this(width, height, games, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a balancer.
+     *
+     * @param width  Width of the simulated labyrinths
+     * @param height Height of the simulated labyrinths
+     * @param games  Number of games played per candidate
+     * @param pool   The pool to play the games on
+     */
+    public Balancer(int width, int height, int games, ForkJoinPool pool) {
+        this.width = width;
+        this.height = height;
+        this.games = games;
+        this.pool = pool;
+    }
+
+    /**
+     * Searches for settings whose win rate is within the tolerance of the target.
+     *
+     * @param start         The settings to start from
+     * @param targetWinRate The wanted fraction of games won, between 0 and 1
+     * @param tolerance     How close to the target is close enough
+     * @param progress      Told about the start and every improvement, or null
+     * @return The result of the best settings found
+     */
+    public SimulationResult balance(Difficulty start, double targetWinRate, double tolerance,
+                                    Consumer<SimulationResult> progress) {
+        SimulationResult best = simulate(start);
+        report(progress, best);
+
+        double step = INITIAL_STEP;
+        for (int round = 0; round < MAX_ROUNDS && step >= MIN_STEP; round++) {
+            if (error(best, targetWinRate) <= tolerance) {
+                break;
+            }
+
+            SimulationResult roundBest = best;
+            for (Difficulty candidate : neighbours(best.getDifficulty(), step)) {
+                SimulationResult result = simulate(candidate);
+                if (error(result, targetWinRate) < error(roundBest, targetWinRate)) {
+                    roundBest = result;
+                }
+            }
+
+            if (roundBest == best) {
+                step = Math.sqrt(step);
+            } else {
+                best = roundBest;
+                report(progress, best);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Plays a batch of games with the given settings. Each game reports to its own headless
+     * view, so nothing is printed.
+     *
+     * @param difficulty The settings to play with
+     * @return The result of the batch
+     */
+    public SimulationResult simulate(Difficulty difficulty) {
+        LongAdder wins = new LongAdder();
+        LongAdder deaths = new LongAdder();
+        LongAdder moves = new LongAdder();
+
+        long start = System.nanoTime();
+        pool.invoke(new GameTask(difficulty, 0, games, wins, deaths, moves));
+        return new SimulationResult(difficulty, games, wins.intValue(), deaths.intValue(), moves.sum(),
+                System.nanoTime() - start);
+    }
+
+    /**
+     * Lists the settings one step away from the given ones, skipping invalid combinations.
+     */
+    private List<Difficulty> neighbours(Difficulty difficulty, double step) {
+        List<Difficulty> candidates = new ArrayList<>();
+        for (RoomType type : TUNED_TYPES) {
+            double ratio = difficulty.getRatio(type);
+            for (double scaled : new double[] {ratio * step, ratio / step}) {
+                double next = Math.max(MIN_RATIO, Math.min(MAX_RATIO, Math.round(scaled * 100) / 100.0));
+                if (next != ratio) {
+                    addIfValid(candidates, () -> difficulty.withRatio(type, next));
+                }
+            }
+        }
+
+        // The budget never drops below the shortest way to the far corner
+        int budget = difficulty.getMoveBudget();
+        int budgetStep = Math.max(1, (int) Math.round(budget * (step - 1)));
+        int shortestPath = width + height - 2;
+        addIfValid(candidates, () -> difficulty.withMoveBudget(budget + budgetStep));
+        if (budget - budgetStep >= shortestPath) {
+            addIfValid(candidates, () -> difficulty.withMoveBudget(budget - budgetStep));
+        }
+        return candidates;
+    }
+
+    private static void addIfValid(List<Difficulty> candidates, Supplier<Difficulty> candidate) {
+        try {
+            candidates.add(candidate.get());
+        } catch (IllegalArgumentException e) {
+            // Special rooms would take up more than every room
+        }
+    }
+
+    private static double error(SimulationResult result, double targetWinRate) {
+        return Math.abs(result.getWinRate() - targetWinRate);
+    }
+
+    private static void report(Consumer<SimulationResult> progress, SimulationResult result) {
+        if (progress != null) {
+            progress.accept(result);
+        }
+    }
+
+    /**
+     * Plays one game from start to end on the current thread.
+     */
+    private BatchResult.StopReason playGame(Difficulty difficulty, int game, LongAdder moves) {
+        long seed = GameRandom.mix(SEED, game);
+        Labyrinth labyrinth = new Labyrinth(width, height, seed, difficulty);
+        Player player = new Player("Bot", 100, 10, 5, difficulty.getMoveBudget());
+        GameController controller = new GameController(labyrinth, player, new HeadlessView(() -> "y", 0));
+        BatchResult.StopReason reason = new BotPlayer(controller, labyrinth, player, ~seed).play();
+        moves.add(difficulty.getMoveBudget() - player.getRemainingMoves());
+        return reason;
+    }
+
+    /**
+     * Plays a range of games, splitting it in half until each task has one game. A game
+     * runs on a single thread, as gameplay randomness is per thread.
+     */
+    private final class GameTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Difficulty difficulty;
+        private final int from;
+        private final int to;
+        private final LongAdder wins;
+        private final LongAdder deaths;
+        private final LongAdder moves;
+
+        GameTask(Difficulty difficulty, int from, int to, LongAdder wins, LongAdder deaths, LongAdder moves) {
+            this.difficulty = difficulty;
+            this.from = from;
+            this.to = to;
+            this.wins = wins;
+            this.deaths = deaths;
+            this.moves = moves;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new GameTask(difficulty, from, middle, wins, deaths, moves),
+                        new GameTask(difficulty, middle, to, wins, deaths, moves));
+                return;
+            }
+            if (to == from) {
+                return;
+            }
+
+            BatchResult.StopReason reason = playGame(difficulty, from, moves);
+            if (reason == BatchResult.StopReason.VICTORY) {
+                wins.increment();
+            } else if (reason == BatchResult.StopReason.DIED) {
+                deaths.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package game.controller.balance;
+
+import game.controller.BatchResult;
+import game.controller.GameController;
+import game.model.Direction;
+import game.model.Labyrinth;
+import game.model.Player;
+import game.model.Position;
+import game.model.content.ContentCatalog;
+import game.model.content.RiddleTemplate;
+import game.model.rooms.ExitRoom;
+import game.model.rooms.MonsterRoom;
+import game.model.rooms.Room;
+import game.model.rooms.TreasureRoom;
+
+import java.util.Collections;
+import java.util.Random;
+
+/**
+ * A simple bot that plays a game through a controller with the same text commands a
+ * person would type. It knows where the exit is but not what the rooms on the way hold:
+ * it heads for the exit along a random shortest path, fights every monster it meets,
+ * loots every treasure and knows the answer to a trap's riddle with a fixed probability.
+ * If the exit turns out to be locked and it has no key, it explores the nearest unvisited
+ * rooms until it finds one.
+ */
+final class BotPlayer {
+    // Chance of knowing the answer each time the bot tries a trap's riddle
+    static final double RIDDLE_SKILL = 0.5;
+    // Commands after which a game that hasn't ended counts as lost
+    static final int MAX_COMMANDS = 500;
+
+    private final GameController controller;
+    private final Labyrinth labyrinth;
+    private final Player player;
+    private final Random random;
+    private ExitRoom lockedExit; // Set once the bot has found the exit locked
+
+    BotPlayer(GameController controller, Labyrinth labyrinth, Player player, long seed) {
+        this.controller = controller;
+        this.labyrinth = labyrinth;
+        this.player = player;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Plays the game until it ends or the command limit is reached.
+     *
+     * @return VICTORY or DIED, or GAME_ENDED if the bot ran out of moves or commands
+     */
+    BatchResult.StopReason play() {
+        if (!controller.beginSession()) {
+            return BatchResult.StopReason.GAME_ENDED;
+        }
+
+        for (int i = 0; i < MAX_COMMANDS && controller.isGameRunning(); i++) {
+            BatchResult.StopReason reason = controller.executeBatch(Collections.singletonList(nextCommand()))
+                    .getStopReason();
+            if (reason == BatchResult.StopReason.VICTORY || reason == BatchResult.StopReason.DIED) {
+                return reason;
+            }
+        }
+        return BatchResult.StopReason.GAME_ENDED;
+    }
+
+    private String nextCommand() {
+        if (player.isTrapped()) {
+            return "solve " + (random.nextDouble() < RIDDLE_SKILL ? riddleAnswer(player.getTrapRiddle()) : "no idea");
+        }
+
+        Position position = player.getPosition();
+        Room room = labyrinth.getRoomAt(position);
+        if (room instanceof MonsterRoom && !((MonsterRoom) room).isDefeated()) {
+            return "attack";
+        }
+        if (room instanceof TreasureRoom && !((TreasureRoom) room).isLooted()) {
+            return "take";
+        }
+        if (room instanceof ExitRoom && ((ExitRoom) room).isLocked()) {
+            // Still here after the controller tried the door, so the key is missing
+            lockedExit = (ExitRoom) room;
+        }
+
+        Position target = labyrinth.getExitPosition();
+        if (lockedExit != null && !player.getInventory().hasKey(lockedExit.getKeyRequired())) {
+            Position unvisited = nearestUnvisited(position);
+            if (unvisited == null) {
+                return "quit";
+            }
+            target = unvisited;
+        }
+        return directionTowards(position, target).name().toLowerCase();
+    }
+
+    /**
+     * Picks one of the directions that shorten the distance to the target at random.
+     */
+    private Direction directionTowards(Position from, Position to) {
+        int dx = Integer.signum(to.getX() - from.getX());
+        int dy = Integer.signum(to.getY() - from.getY());
+        boolean horizontal = dx != 0 && (dy == 0 || random.nextBoolean());
+        if (horizontal) {
+            return dx > 0 ? Direction.EAST : Direction.WEST;
+        }
+        return dy > 0 ? Direction.SOUTH : Direction.NORTH;
+    }
+
+    /**
+     * Finds the closest room the bot hasn't been in, by the number of moves to reach it.
+     */
+    private Position nearestUnvisited(Position from) {
+        Position nearest = null;
+        int nearestDistance = Integer.MAX_VALUE;
+        for (int y = 0; y < labyrinth.getHeight(); y++) {
+            for (int x = 0; x < labyrinth.getWidth(); x++) {
+                int distance = Math.abs(x - from.getX()) + Math.abs(y - from.getY());
+                if (distance > 0 && distance < nearestDistance && !labyrinth.isVisited(x, y)) {
+                    nearest = Position.of(x, y);
+                    nearestDistance = distance;
+                }
+            }
+        }
+        return nearest;
+    }
+
+    private static String riddleAnswer(String question) {
+        for (RiddleTemplate riddle : ContentCatalog.get().getRiddlePool("trap_riddles")) {
+            if (riddle.getQuestion().equals(question)) {
+                return riddle.getAnswer();
+            }
+        }
+        return "no idea";
+    }
+}
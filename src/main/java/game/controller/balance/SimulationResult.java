@@ -0,0 +1,82 @@
+package game.controller.balance;
+
+import game.model.Difficulty;
+
+/**
+ * Summary of a batch of simulated games played with one set of difficulty settings:
+ * how many the bots won, how many they died in, and how many moves they used.
+ */
+public class SimulationResult {
+    private final Difficulty difficulty;
+    private final int games;
+    private final int wins;
+    private final int deaths;
+    private final long movesUsed;
+    private final long elapsedNanos;
+
+    /**
+     * Creates a simulation result.
+     *
+     * @param difficulty   The settings the games were played with
+     * @param games        Number of games played
+     * @param wins         Number of games the bot escaped from
+     * @param deaths       Number of games the bot died in
+     * @param movesUsed    Total number of moves made over all games
+     * @param elapsedNanos Time spent playing, in nanoseconds
+     */
+    public SimulationResult(Difficulty difficulty, int games, int wins, int deaths, long movesUsed,
+                            long elapsedNanos) {
+        this.difficulty = difficulty;
+        this.games = games;
+        this.wins = wins;
+        this.deaths = deaths;
+        this.movesUsed = movesUsed;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets the fraction of games won.
+     *
+     * @return The win rate, between 0 and 1
+     */
+    public double getWinRate() {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+
+    /**
+     * Gets the average number of moves made per game.
+     *
+     * @return The average moves
+     */
+    public double getAverageMoves() {
+        return games == 0 ? 0 : (double) movesUsed / games;
+    }
+
+    // Getters
+
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public int getDeaths() {
+        return deaths;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("win rate %.1f%% (%d/%d), %d deaths, %.1f moves on average, %.0f ms: %s",
+                getWinRate() * 100, wins, games, deaths, getAverageMoves(), elapsedNanos / 1_000_000.0, difficulty);
+    }
+}
@@ -0,0 +1,161 @@
+package game.controller.replay;
+
+import game.model.Direction;
+import game.model.command.Command;
+import game.model.command.Verb;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Constants and encoding helpers for the binary replay format.
+ *
+ * <pre>
+ * header : "MLRP" version:u8 width:varint height:varint seed:i64 flags:u8 [floors:varint]
+ *          [puzzleRatio:f64 treasureRatio:f64 monsterRatio:f64 trapRatio:f64 moves:varint]
+ *          playerName:utf health:varint attack:varint defense:varint
+ * record : timeDeltaMillis:varint code:varint payload
+ * </pre>
+ *
+ * Flag bit 0 marks a procedural labyrinth and bit 1 one generated in parallel tiles.
+ * Bit 2 marks a multi-level dungeon, and is followed by its number of floors. Bit 3 marks
+ * difficulty settings other than the defaults, which follow as room ratios and move budget.
+ * Code 0 is a checkpoint whose payload is the 8-byte state hash. Movement in a
+ * known direction has its own code from 64 up, so the common commands take two bytes
+ * in total. Other verbs are stored as 1 plus their ordinal, which must stay below 64;
+ * SOLVE, ANSWER, UNKNOWN and MOVE without a direction carry their text as a
+ * length-prefixed UTF-8 payload.
+ */
+final class ReplayFormat {
+    static final byte[] MAGIC = {'M', 'L', 'R', 'P'};
+    // Bumped whenever the world generated for a seed or the command codes change
+    static final int VERSION = 5;
+    static final int FLAG_PROCEDURAL = 1;
+    static final int FLAG_PARALLEL = 2;
+    static final int FLAG_DUNGEON = 4;
+    static final int FLAG_DIFFICULTY = 8;
+
+    static final int CHECKPOINT = 0;
+    private static final int VERB_BASE = 1;
+    // Fixed so that appending a verb doesn't shift the movement codes; still one varint byte
+    private static final int MOVE_BASE = 64;
+
+    private static final Verb[] VERBS = Verb.values();
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final Command[] MOVES = new Command[DIRECTIONS.length];
+
+    static {
+        if (VERB_BASE + VERBS.length > MOVE_BASE) {
+            throw new IllegalStateException(VERBS.length + " verbs don't fit below the movement codes");
+        }
+        for (Direction direction : DIRECTIONS) {
+            String word = direction.name().toLowerCase();
+            MOVES[direction.ordinal()] = new Command(Verb.MOVE, word, word, direction);
+        }
+    }
+
+    private ReplayFormat() {
+    }
+
+    /**
+     * Writes a command record's code and payload.
+     */
+    static void writeCommand(DataOutput out, Command command) throws IOException {
+        Verb verb = command.getVerb();
+        if (verb == Verb.MOVE && command.getDirection() != null) {
+            writeVarint(out, MOVE_BASE + command.getDirection().ordinal());
+            return;
+        }
+
+        writeVarint(out, VERB_BASE + verb.ordinal());
+        switch (verb) {
+            case MOVE:
+            case SOLVE:
+            case ANSWER:
+                writeString(out, command.getArgument());
+                break;
+            case UNKNOWN:
+                writeString(out, command.getText());
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Reads the payload for a command code and rebuilds the command.
+     */
+    static Command readCommand(DataInput in, int code) throws IOException {
+        if (code >= MOVE_BASE) {
+            int direction = code - MOVE_BASE;
+            if (direction >= MOVES.length) {
+                throw new IOException("Unknown replay command code " + code);
+            }
+            return MOVES[direction];
+        }
+
+        int ordinal = code - VERB_BASE;
+        if (ordinal < 0 || ordinal >= VERBS.length) {
+            throw new IOException("Unknown replay command code " + code);
+        }
+
+        Verb verb = VERBS[ordinal];
+        switch (verb) {
+            case MOVE:
+            case SOLVE:
+            case ANSWER: {
+                String argument = readString(in);
+                if (argument.isEmpty()) {
+                    return Command.of(verb);
+                }
+                return new Command(verb, verb.getWord() + " " + argument, argument, null);
+            }
+            case UNKNOWN:
+                return new Command(verb, readString(in), "", null);
+            default:
+                return Command.of(verb);
+        }
+    }
+
+    static void writeVarint(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in replay");
+    }
+
+    static int readVarint(DataInput in) throws IOException {
+        long value = readVarLong(in);
+        if (value > Integer.MAX_VALUE) {
+            throw new IOException("Varint out of range in replay");
+        }
+        return (int) value;
+    }
+
+    private static void writeString(DataOutput out, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        byte[] bytes = new byte[readVarint(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
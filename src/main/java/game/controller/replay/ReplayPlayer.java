@@ -0,0 +1,135 @@
+package game.controller.replay;
+
+import game.controller.GameController;
+import game.model.Difficulty;
+import game.model.Dungeon;
+import game.model.Labyrinth;
+import game.model.Player;
+import game.model.command.Command;
+import game.view.HeadlessView;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Plays back a replay file at full speed without a user interface.
+ * The labyrinth is regenerated from the recorded seed, every command is run through
+ * {@link GameController#step(Command)} and the state hash is compared at each checkpoint.
+ */
+public class ReplayPlayer {
+    private final Path path;
+
+    /**
+     * Creates a player for a replay file.
+     *
+     * @param path The replay file
+     */
+    public ReplayPlayer(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Replays the file. Game output is discarded while the replay runs.
+     *
+     * @return The result of the replay
+     * @throws IOException If the file cannot be read or is not a replay
+     */
+    public ReplayResult play() throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(path.toFile())))) {
+            byte[] magic = new byte[ReplayFormat.MAGIC.length];
+            in.readFully(magic);
+            if (!Arrays.equals(magic, ReplayFormat.MAGIC)) {
+                throw new IOException("Not a replay file: " + path);
+            }
+            int version = in.readUnsignedByte();
+            if (version != ReplayFormat.VERSION) {
+                throw new IOException("Unsupported replay version " + version);
+            }
+
+            int width = ReplayFormat.readVarint(in);
+            int height = ReplayFormat.readVarint(in);
+            long seed = in.readLong();
+            int flags = in.readUnsignedByte();
+            int floors = (flags & ReplayFormat.FLAG_DUNGEON) != 0 ? ReplayFormat.readVarint(in) : 0;
+            Difficulty difficulty = Difficulty.DEFAULT;
+            if ((flags & ReplayFormat.FLAG_DIFFICULTY) != 0) {
+                try {
+                    difficulty = new Difficulty(in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble(),
+                            ReplayFormat.readVarint(in));
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("Invalid difficulty in replay: " + e.getMessage(), e);
+                }
+            }
+            String name = in.readUTF();
+            int health = ReplayFormat.readVarint(in);
+            int attack = ReplayFormat.readVarint(in);
+            int defense = ReplayFormat.readVarint(in);
+
+            Labyrinth labyrinth;
+            // The recorded settings, not the current ones, decide how the world was generated
+            if ((flags & ReplayFormat.FLAG_PROCEDURAL) != 0) {
+                labyrinth = Labyrinth.procedural(width, height, seed, difficulty);
+            } else if ((flags & ReplayFormat.FLAG_PARALLEL) != 0) {
+                labyrinth = Labyrinth.parallel(width, height, seed, ForkJoinPool.commonPool(), difficulty);
+            } else {
+                labyrinth = new Labyrinth(width, height, seed, difficulty);
+            }
+            Player player = new Player(name, health, attack, defense, difficulty.getMoveBudget());
+            // Shows nothing and confirms every prompt, since only confirmed quits are ever recorded
+            HeadlessView view = new HeadlessView(() -> "y", 0);
+            GameController controller = new GameController(labyrinth, player, view);
+            if (floors > 0) {
+                controller.setDungeon(new Dungeon(labyrinth, floors));
+            }
+            return run(in, controller);
+        }
+    }
+
+    private ReplayResult run(DataInputStream in, GameController controller) throws IOException {
+        int commands = 0;
+        int verified = 0;
+        int firstMismatch = -1;
+        boolean truncated = false;
+
+        long start = System.nanoTime();
+        controller.beginSession();
+
+        while (true) {
+            int code;
+            try {
+                ReplayFormat.readVarLong(in); // Recorded time delta, not needed at full speed
+                code = ReplayFormat.readVarint(in);
+            } catch (EOFException e) {
+                break;
+            }
+
+            try {
+                if (code == ReplayFormat.CHECKPOINT) {
+                    long expected = in.readLong();
+                    if (controller.stateHash() == expected) {
+                        verified++;
+                    } else if (firstMismatch < 0) {
+                        firstMismatch = commands;
+                    }
+                    continue;
+                }
+
+                Command command = ReplayFormat.readCommand(in, code);
+                controller.step(command);
+                commands++;
+            } catch (EOFException e) {
+                // The recording was cut off in the middle of a record
+                truncated = true;
+                break;
+            }
+        }
+
+        return new ReplayResult(commands, verified, firstMismatch, truncated, System.nanoTime() - start);
+    }
+}
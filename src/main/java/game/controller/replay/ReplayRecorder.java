@@ -0,0 +1,153 @@
+package game.controller.replay;
+
+import game.controller.CommandListener;
+import game.controller.GameController;
+import game.model.Difficulty;
+import game.model.Dungeon;
+import game.model.Labyrinth;
+import game.model.Player;
+import game.model.command.Command;
+import game.model.stats.Stat;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Records the commands executed by a {@link GameController} into an append-only replay file.
+ * A checkpoint with the controller's state hash is written every {@link #CHECKPOINT_INTERVAL}
+ * commands and when the session ends, so playback can verify it stays in sync.
+ */
+public class ReplayRecorder implements CommandListener, Closeable {
+    public static final int CHECKPOINT_INTERVAL = 64;
+
+    private final GameController controller;
+    private DataOutputStream out;
+    private long lastTime;
+    private int commandCount;
+
+    /**
+     * Creates a new replay file and writes its header. Must be called before the
+     * session starts, while the player still has their starting stats, and after the
+     * controller's dungeon has been set.
+     *
+     * @param path       Where to write the replay
+     * @param labyrinth  The labyrinth being played
+     * @param player     The player
+     * @param controller The controller whose commands are recorded
+     * @throws IOException If the file cannot be written
+     */
+    public ReplayRecorder(Path path, Labyrinth labyrinth, Player player, GameController controller) throws IOException {
+        this.controller = controller;
+        this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path.toFile())));
+        this.lastTime = System.currentTimeMillis();
+
+        out.write(ReplayFormat.MAGIC);
+        out.writeByte(ReplayFormat.VERSION);
+        ReplayFormat.writeVarint(out, labyrinth.getWidth());
+        ReplayFormat.writeVarint(out, labyrinth.getHeight());
+        out.writeLong(labyrinth.getSeed());
+        Dungeon dungeon = controller.getDungeon();
+        Difficulty difficulty = labyrinth.getDifficulty().withMoveBudget(player.getRemainingMoves());
+        boolean customDifficulty = !difficulty.equals(Difficulty.DEFAULT);
+        out.writeByte((labyrinth.isProcedural() ? ReplayFormat.FLAG_PROCEDURAL : 0)
+                | (labyrinth.isParallel() ? ReplayFormat.FLAG_PARALLEL : 0)
+                | (dungeon != null ? ReplayFormat.FLAG_DUNGEON : 0)
+                | (customDifficulty ? ReplayFormat.FLAG_DIFFICULTY : 0));
+        if (dungeon != null) {
+            ReplayFormat.writeVarint(out, dungeon.getFloorCount());
+        }
+        if (customDifficulty) {
+            out.writeDouble(difficulty.getPuzzleRatio());
+            out.writeDouble(difficulty.getTreasureRatio());
+            out.writeDouble(difficulty.getMonsterRatio());
+            out.writeDouble(difficulty.getTrapRatio());
+            ReplayFormat.writeVarint(out, difficulty.getMoveBudget());
+        }
+        out.writeUTF(player.getName());
+        // Base stats: the replayed player gets its stance and other modifiers again by itself
+        ReplayFormat.writeVarint(out, player.getStats().getBase(Stat.MAX_HEALTH));
+        ReplayFormat.writeVarint(out, player.getStats().getBase(Stat.ATTACK));
+        ReplayFormat.writeVarint(out, player.getStats().getBase(Stat.DEFENSE));
+        out.flush();
+    }
+
+    @Override
+    public synchronized void commandExecuted(Command command) {
+        if (out == null) {
+            return;
+        }
+
+        try {
+            writeTimestamp();
+            ReplayFormat.writeCommand(out, command);
+            commandCount++;
+
+            if (commandCount % CHECKPOINT_INTERVAL == 0) {
+                writeCheckpoint();
+            }
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    @Override
+    public void sessionEnded() {
+        close();
+    }
+
+    /**
+     * Writes a final checkpoint and closes the replay file.
+     */
+    @Override
+    public synchronized void close() {
+        if (out == null) {
+            return;
+        }
+
+        try {
+            if (commandCount % CHECKPOINT_INTERVAL != 0) {
+                writeCheckpoint();
+            }
+            out.close();
+        } catch (IOException e) {
+            System.err.println("Could not finish replay: " + e.getMessage());
+        }
+        out = null;
+    }
+
+    /**
+     * Gets the number of commands recorded so far.
+     *
+     * @return The command count
+     */
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    private void writeTimestamp() throws IOException {
+        long now = System.currentTimeMillis();
+        ReplayFormat.writeVarint(out, Math.max(0, now - lastTime));
+        lastTime = now;
+    }
+
+    private void writeCheckpoint() throws IOException {
+        writeTimestamp();
+        ReplayFormat.writeVarint(out, ReplayFormat.CHECKPOINT);
+        out.writeLong(controller.stateHash());
+        out.flush();
+    }
+
+    private void fail(IOException e) {
+        System.err.println("Replay recording stopped: " + e.getMessage());
+        try {
+            out.close();
+        } catch (IOException ignored) {
+            // Already failing
+        }
+        out = null;
+    }
+}
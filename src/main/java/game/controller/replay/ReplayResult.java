@@ -0,0 +1,90 @@
+package game.controller.replay;
+
+/**
+ * Summary of a replay run: how many commands were played back, how many checkpoints
+ * matched, where the replay first diverged from the recording and how fast it ran.
+ */
+public class ReplayResult {
+    private final int commandsReplayed;
+    private final int checkpointsVerified;
+    private final int firstMismatch;
+    private final boolean truncated;
+    private final long elapsedNanos;
+
+    /**
+     * Creates a replay result.
+     *
+     * @param commandsReplayed    Number of commands played back
+     * @param checkpointsVerified Number of checkpoints whose state hash matched
+     * @param firstMismatch       Command index of the first mismatching checkpoint, or -1 if none
+     * @param truncated           Whether the file ended in the middle of a record
+     * @param elapsedNanos        Time spent playing back, in nanoseconds
+     */
+    public ReplayResult(int commandsReplayed, int checkpointsVerified, int firstMismatch,
+                        boolean truncated, long elapsedNanos) {
+        this.commandsReplayed = commandsReplayed;
+        this.checkpointsVerified = checkpointsVerified;
+        this.firstMismatch = firstMismatch;
+        this.truncated = truncated;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Checks whether every checkpoint in the replay matched.
+     *
+     * @return true if the replay stayed in sync, false otherwise
+     */
+    public boolean isInSync() {
+        return firstMismatch < 0;
+    }
+
+    /**
+     * Gets the playback speed.
+     *
+     * @return Commands replayed per second
+     */
+    public double getCommandsPerSecond() {
+        if (elapsedNanos == 0) {
+            return 0;
+        }
+        return commandsReplayed * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    // Getters
+
+    public int getCommandsReplayed() {
+        return commandsReplayed;
+    }
+
+    public int getCheckpointsVerified() {
+        return checkpointsVerified;
+    }
+
+    public int getFirstMismatch() {
+        return firstMismatch;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Replayed ").append(commandsReplayed).append(" commands in ")
+          .append(String.format("%.1f", elapsedNanos / 1_000_000.0)).append(" ms (")
+          .append(String.format("%.0f", getCommandsPerSecond())).append(" commands/s), ")
+          .append(checkpointsVerified).append(" checkpoints verified");
+        if (!isInSync()) {
+            sb.append(", DESYNC after command ").append(firstMismatch);
+        }
+        if (truncated) {
+            sb.append(", recording was truncated");
+        }
+        return sb.toString();
+    }
+}
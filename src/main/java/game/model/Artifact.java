@@ -1,19 +1,26 @@
 package game.model;
 
+import game.model.content.ArtifactTemplate;
+
 /**
  * Represents a magical artifact that the player can collect.
+ * An artifact is a lightweight item that shares its name, description and
+ * bonuses with every other artifact created from the same {@link ArtifactTemplate}.
  */
 public class Artifact {
-    private String name;
-    private String description;
-    private int healthBonus;
-    private int attackBonus;
-    private int defenseBonus;
-    private boolean isKey; // If this artifact can unlock something
-    private String keyId; // What this key unlocks, if it's a key
+    private final ArtifactTemplate template;
+    
+    /**
+     * Creates a new artifact from a shared template.
+     * 
+     * @param template The template describing the artifact
+     */
+    public Artifact(ArtifactTemplate template) {
+        this.template = template;
+    }
     
     /**
-     * Creates a new artifact.
+     * Creates a new artifact with its own template.
      * 
      * @param name        The artifact's name
      * @param description Description of the artifact
@@ -22,30 +29,18 @@ public class Artifact {
      * @param defenseBonus Defense bonus provided
      */
     public Artifact(String name, String description, int healthBonus, int attackBonus, int defenseBonus) {
-        this.name = name;
-        this.description = description;
-        this.healthBonus = healthBonus;
-        this.attackBonus = attackBonus;
-        this.defenseBonus = defenseBonus;
-        this.isKey = false;
-        this.keyId = null;
+        this(new ArtifactTemplate(null, name, description, healthBonus, attackBonus, defenseBonus, null));
     }
     
     /**
-     * Creates a new key artifact.
+     * Creates a new key artifact with its own template.
      * 
      * @param name        The key's name
      * @param description Description of the key
      * @param keyId       Identifier for what this key unlocks
      */
     public Artifact(String name, String description, String keyId) {
-        this.name = name;
-        this.description = description;
-        this.healthBonus = 0;
-        this.attackBonus = 0;
-        this.defenseBonus = 0;
-        this.isKey = true;
-        this.keyId = keyId;
+        this(new ArtifactTemplate(null, name, description, 0, 0, 0, keyId));
     }
     
     /**
@@ -54,7 +49,7 @@ public class Artifact {
      * @return true if it's a key, false otherwise
      */
     public boolean isKey() {
-        return isKey;
+        return template.isKey();
     }
     
     /**
@@ -63,44 +58,37 @@ public class Artifact {
      * @return The key ID, or null if not a key
      */
     public String getKeyId() {
-        return keyId;
+        return template.getKeyId();
     }
     
     // Getters
     
+    public ArtifactTemplate getTemplate() {
+        return template;
+    }
+    
     public String getName() {
-        return name;
+        return template.getName();
     }
     
     public String getDescription() {
-        return description;
+        return template.getDescription();
     }
     
     public int getHealthBonus() {
-        return healthBonus;
+        return template.getHealthBonus();
     }
     
     public int getAttackBonus() {
-        return attackBonus;
+        return template.getAttackBonus();
     }
     
     public int getDefenseBonus() {
-        return defenseBonus;
+        return template.getDefenseBonus();
     }
     
     @Override
     public String toString() {
-        StringBuilder sb = new StringBuilder();
-        sb.append(name).append(": ").append(description);
-        
-        if (isKey) {
-            sb.append(" (Key)");
-        } else {
-            if (healthBonus != 0) sb.append(" HP+").append(healthBonus);
-            if (attackBonus != 0) sb.append(" ATK+").append(attackBonus);
-            if (defenseBonus != 0) sb.append(" DEF+").append(defenseBonus);
-        }
-        
-        return sb.toString();
+        return template.toString();
     }
 }
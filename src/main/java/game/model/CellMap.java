@@ -0,0 +1,115 @@
+package game.model;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from cell indices to values, using open addressing over primitive
+ * long keys so an entry costs two array slots rather than a boxed key and a node.
+ * Cell indices are never negative, which leaves -1 free to mark empty slots.
+ *
+ * @param <V> The value type
+ */
+final class CellMap<V> {
+    private static final long EMPTY = -1;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+
+    /**
+     * Creates an empty map.
+     */
+    CellMap() {
+        this.keys = new long[16];
+        this.values = new Object[16];
+        Arrays.fill(keys, EMPTY);
+        this.size = 0;
+    }
+
+    /**
+     * Gets the value for a cell.
+     *
+     * @param cell The cell index
+     * @return The value, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    V get(long cell) {
+        int mask = keys.length - 1;
+        for (int i = slot(cell, mask); ; i = (i + 1) & mask) {
+            if (keys[i] == cell) {
+                return (V) values[i];
+            }
+            if (keys[i] == EMPTY) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Sets the value for a cell, replacing any previous value.
+     *
+     * @param cell  The cell index
+     * @param value The value
+     */
+    void put(long cell, V value) {
+        int mask = keys.length - 1;
+        int i = slot(cell, mask);
+        while (keys[i] != EMPTY && keys[i] != cell) {
+            i = (i + 1) & mask;
+        }
+        if (keys[i] == EMPTY) {
+            keys[i] = cell;
+            size++;
+        }
+        values[i] = value;
+
+        if (size * 2 > keys.length) {
+            grow();
+        }
+    }
+
+    /**
+     * Checks if a cell has a value.
+     *
+     * @param cell The cell index
+     * @return true if present, false otherwise
+     */
+    boolean containsKey(long cell) {
+        return get(cell) != null;
+    }
+
+    /**
+     * Gets the number of cells with a value.
+     *
+     * @return The number of entries
+     */
+    int size() {
+        return size;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new Object[oldValues.length * 2];
+        Arrays.fill(keys, EMPTY);
+
+        int mask = keys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] != EMPTY) {
+                int i = slot(oldKeys[j], mask);
+                while (keys[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    private static int slot(long cell, int mask) {
+        // Spread neighbouring cells across the table
+        long h = cell * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,94 @@
+package game.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * One byte per cell, held outside the Java heap and addressed by long cell indices,
+ * so a labyrinth isn't limited to two billion cells and its size doesn't show up in
+ * garbage collection. Storage is split into chunks of up to 1 GB, either direct
+ * buffers or regions of a memory-mapped file.
+ *
+ * Direct memory is zeroed when it is allocated and counts against
+ * -XX:MaxDirectMemorySize. A mapped file is paged in as cells are touched instead,
+ * and the operating system can write pages back to it under memory pressure.
+ */
+final class CellStore {
+    private static final int CHUNK_BITS = 30;
+    private static final long CHUNK_SIZE = 1L << CHUNK_BITS;
+    private static final long CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final ByteBuffer[] chunks;
+    private final long size;
+
+    private CellStore(ByteBuffer[] chunks, long size) {
+        this.chunks = chunks;
+        this.size = size;
+    }
+
+    /**
+     * Allocates a zeroed store in direct memory.
+     *
+     * @param size The number of cells
+     * @return The store
+     */
+    static CellStore allocate(long size) {
+        ByteBuffer[] chunks = new ByteBuffer[chunkCount(size)];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = ByteBuffer.allocateDirect((int) chunkSize(size, i));
+        }
+        return new CellStore(chunks, size);
+    }
+
+    /**
+     * Maps part of a file as a store. The mapping stays valid after the channel is closed,
+     * and mapping a read-write region past the end of the file grows the file.
+     *
+     * @param channel The file to map
+     * @param mode    READ_ONLY or READ_WRITE
+     * @param offset  Where the cells start in the file
+     * @param size    The number of cells
+     * @return The store
+     * @throws IOException If the file cannot be mapped
+     */
+    static CellStore map(FileChannel channel, FileChannel.MapMode mode, long offset, long size) throws IOException {
+        ByteBuffer[] chunks = new ByteBuffer[chunkCount(size)];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = channel.map(mode, offset + ((long) i << CHUNK_BITS), chunkSize(size, i));
+        }
+        return new CellStore(chunks, size);
+    }
+
+    /**
+     * Reads a cell.
+     *
+     * @param cell The cell index
+     * @return The cell's byte, as an unsigned value
+     */
+    int get(long cell) {
+        return chunks[(int) (cell >>> CHUNK_BITS)].get((int) (cell & CHUNK_MASK)) & 0xFF;
+    }
+
+    /**
+     * Writes a cell.
+     *
+     * @param cell  The cell index
+     * @param value The new byte; only the low 8 bits are kept
+     */
+    void set(long cell, int value) {
+        chunks[(int) (cell >>> CHUNK_BITS)].put((int) (cell & CHUNK_MASK), (byte) value);
+    }
+
+    long size() {
+        return size;
+    }
+
+    private static int chunkCount(long size) {
+        return (int) ((size + CHUNK_MASK) >>> CHUNK_BITS);
+    }
+
+    private static long chunkSize(long size, int chunk) {
+        return Math.min(CHUNK_SIZE, size - ((long) chunk << CHUNK_BITS));
+    }
+}
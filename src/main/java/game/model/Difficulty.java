@@ -0,0 +1,266 @@
+package game.model;
+
+import game.model.rooms.RoomType;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+/**
+ * The settings that make a game harder or easier: how common each special room type is,
+ * and how many moves the player has. A ratio of N means one room in N is of that type.
+ *
+ * Labyrinths and players use the current settings unless given others. They are read from
+ * the properties file named by the "game.difficulty" system property, or from
+ * difficulty.properties in the working directory, and are the defaults if neither exists.
+ * The balancer writes such a file:
+ *
+ * <pre>
+ * puzzle.ratio=10.0
+ * treasure.ratio=8.0
+ * monster.ratio=6.0
+ * trap.ratio=8.0
+ * moves=30
+ * </pre>
+ */
+public final class Difficulty {
+    public static final Difficulty DEFAULT = new Difficulty(10, 8, 6, 8, 30);
+
+    private static final String SOURCE_PROPERTY = "game.difficulty";
+    private static final Path DEFAULT_FILE = Paths.get("difficulty.properties");
+
+    private static volatile Difficulty current;
+
+    private final double puzzleRatio;
+    private final double treasureRatio;
+    private final double monsterRatio;
+    private final double trapRatio;
+    private final int moveBudget;
+
+    /**
+     * Creates difficulty settings.
+     *
+     * @param puzzleRatio   One room in this many is a puzzle room
+     * @param treasureRatio One room in this many is a treasure room
+     * @param monsterRatio  One room in this many is a monster room
+     * @param trapRatio     One room in this many is a trap room
+     * @param moveBudget    The number of moves the player has
+     * @throws IllegalArgumentException If a ratio is below 1, the special rooms would
+     *                                  take up more than every room, or the budget is below 1
+     */
+    public Difficulty(double puzzleRatio, double treasureRatio, double monsterRatio, double trapRatio, int moveBudget) {
+        if (!(puzzleRatio >= 1 && treasureRatio >= 1 && monsterRatio >= 1 && trapRatio >= 1)) {
+            throw new IllegalArgumentException("Room ratios must be at least 1");
+        }
+        if (1 / puzzleRatio + 1 / treasureRatio + 1 / monsterRatio + 1 / trapRatio > 1) {
+            throw new IllegalArgumentException("Special rooms can't take up more than every room");
+        }
+        if (moveBudget < 1) {
+            throw new IllegalArgumentException("The move budget must be at least 1");
+        }
+
+        this.puzzleRatio = puzzleRatio;
+        this.treasureRatio = treasureRatio;
+        this.monsterRatio = monsterRatio;
+        this.trapRatio = trapRatio;
+        this.moveBudget = moveBudget;
+    }
+
+    /**
+     * Gets the current settings, loading them on first use.
+     *
+     * @return The current settings
+     * @throws IllegalStateException If the settings file exists but cannot be loaded
+     */
+    public static Difficulty get() {
+        Difficulty difficulty = current;
+        if (difficulty == null) {
+            synchronized (Difficulty.class) {
+                difficulty = current;
+                if (difficulty == null) {
+                    try {
+                        difficulty = loadDefault();
+                    } catch (IOException | IllegalArgumentException e) {
+                        throw new IllegalStateException("Could not load difficulty settings: " + e.getMessage(), e);
+                    }
+                    current = difficulty;
+                }
+            }
+        }
+        return difficulty;
+    }
+
+    /**
+     * Loads settings from a properties file. Missing keys keep their default values.
+     *
+     * @param path The file to read
+     * @return The settings
+     * @throws IOException If the file cannot be read or a value is not a number
+     * @throws IllegalArgumentException If the values are out of range
+     */
+    public static Difficulty load(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+
+        try {
+            return new Difficulty(
+                    ratio(properties, "puzzle.ratio", DEFAULT.puzzleRatio),
+                    ratio(properties, "treasure.ratio", DEFAULT.treasureRatio),
+                    ratio(properties, "monster.ratio", DEFAULT.monsterRatio),
+                    ratio(properties, "trap.ratio", DEFAULT.trapRatio),
+                    Integer.parseInt(properties.getProperty("moves", String.valueOf(DEFAULT.moveBudget)).trim()));
+        } catch (NumberFormatException e) {
+            throw new IOException(path + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the settings to a properties file, replacing any previous content.
+     *
+     * @param path    The file to write
+     * @param comment A comment for the top of the file, or null
+     * @throws IOException If the file cannot be written
+     */
+    public void save(Path path, String comment) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("puzzle.ratio", String.valueOf(puzzleRatio));
+        properties.setProperty("treasure.ratio", String.valueOf(treasureRatio));
+        properties.setProperty("monster.ratio", String.valueOf(monsterRatio));
+        properties.setProperty("trap.ratio", String.valueOf(trapRatio));
+        properties.setProperty("moves", String.valueOf(moveBudget));
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            properties.store(writer, comment);
+        }
+    }
+
+    private static Difficulty loadDefault() throws IOException {
+        String source = System.getProperty(SOURCE_PROPERTY);
+        if (source != null) {
+            return load(Paths.get(source));
+        }
+        return Files.isRegularFile(DEFAULT_FILE) ? load(DEFAULT_FILE) : DEFAULT;
+    }
+
+    private static double ratio(Properties properties, String key, double defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null ? defaultValue : Double.parseDouble(value.trim());
+    }
+
+    /**
+     * Gets how many rooms of a type to place among a number of rooms.
+     *
+     * @param type      A special room type
+     * @param roomCount The number of rooms
+     * @return The number of rooms of that type, or 0 for types without a ratio
+     */
+    public int count(RoomType type, int roomCount) {
+        double ratio = getRatio(type);
+        return ratio > 0 ? (int) (roomCount / ratio) : 0;
+    }
+
+    /**
+     * Gets the ratio of a room type.
+     *
+     * @param type The room type
+     * @return One room in this many is of the type, or 0 for regular and exit rooms
+     */
+    public double getRatio(RoomType type) {
+        switch (type) {
+            case PUZZLE:
+                return puzzleRatio;
+            case TREASURE:
+                return treasureRatio;
+            case MONSTER:
+                return monsterRatio;
+            case TRAP:
+                return trapRatio;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Creates a copy of these settings with another ratio for a room type.
+     *
+     * @param type  A special room type
+     * @param ratio The new ratio
+     * @return The new settings
+     */
+    public Difficulty withRatio(RoomType type, double ratio) {
+        return new Difficulty(
+                type == RoomType.PUZZLE ? ratio : puzzleRatio,
+                type == RoomType.TREASURE ? ratio : treasureRatio,
+                type == RoomType.MONSTER ? ratio : monsterRatio,
+                type == RoomType.TRAP ? ratio : trapRatio,
+                moveBudget);
+    }
+
+    /**
+     * Creates a copy of these settings with another move budget.
+     *
+     * @param moveBudget The new move budget
+     * @return The new settings
+     */
+    public Difficulty withMoveBudget(int moveBudget) {
+        return new Difficulty(puzzleRatio, treasureRatio, monsterRatio, trapRatio, moveBudget);
+    }
+
+    // Getters
+
+    public double getPuzzleRatio() {
+        return puzzleRatio;
+    }
+
+    public double getTreasureRatio() {
+        return treasureRatio;
+    }
+
+    public double getMonsterRatio() {
+        return monsterRatio;
+    }
+
+    public double getTrapRatio() {
+        return trapRatio;
+    }
+
+    public int getMoveBudget() {
+        return moveBudget;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Difficulty)) {
+            return false;
+        }
+        Difficulty other = (Difficulty) o;
+        return puzzleRatio == other.puzzleRatio && treasureRatio == other.treasureRatio
+                && monsterRatio == other.monsterRatio && trapRatio == other.trapRatio
+                && moveBudget == other.moveBudget;
+    }
+
+    @Override
+    public int hashCode() {
+        long hash = Double.doubleToLongBits(puzzleRatio);
+        hash = hash * 31 + Double.doubleToLongBits(treasureRatio);
+        hash = hash * 31 + Double.doubleToLongBits(monsterRatio);
+        hash = hash * 31 + Double.doubleToLongBits(trapRatio);
+        hash = hash * 31 + moveBudget;
+        return Long.hashCode(hash);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("puzzle 1/%.2f, treasure 1/%.2f, monster 1/%.2f, trap 1/%.2f, %d moves",
+                puzzleRatio, treasureRatio, monsterRatio, trapRatio, moveBudget);
+    }
+}
@@ -4,5 +4,31 @@ package game.model;
  * Enum representing the cardinal directions for movement.
  */
 public enum Direction {
-    NORTH, SOUTH, EAST, WEST
+    NORTH(0, -1), SOUTH(0, 1), EAST(1, 0), WEST(-1, 0);
+    
+    private final int dx;
+    private final int dy;
+    
+    Direction(int dx, int dy) {
+        this.dx = dx;
+        this.dy = dy;
+    }
+    
+    /**
+     * Gets the change in x-coordinate when moving in this direction.
+     * 
+     * @return The x offset
+     */
+    public int getDx() {
+        return dx;
+    }
+    
+    /**
+     * Gets the change in y-coordinate when moving in this direction.
+     * 
+     * @return The y offset
+     */
+    public int getDy() {
+        return dy;
+    }
 }
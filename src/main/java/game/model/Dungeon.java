@@ -0,0 +1,222 @@
+package game.model;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A stack of labyrinths, one per floor, where the exit of each floor leads down to the next.
+ * The floors below the current one are generated on a background thread while the current
+ * floor is played, so taking the stairs only swaps in a labyrinth that already exists.
+ * Floors are kept in a small cache: the floors being prepared below, the current floor and
+ * the ones just above it. Floors further up are dropped, since the stairs only lead down.
+ * Every floor has the same size, kind and difficulty as the first, and a seed derived from
+ * the first floor's seed and its depth, so a dungeon always has the same floors for the same seed.
+ */
+public class Dungeon {
+    // How many floors below the current one are generated ahead of time
+    public static final int PREFETCH_DEPTH = 2;
+    // How many floors above the current one stay cached
+    public static final int KEPT_ABOVE = 1;
+
+    private final int width;
+    private final int height;
+    private final long seed;
+    private final boolean procedural;
+    private final boolean parallel;
+    private final Difficulty difficulty;
+    private final int floorCount;
+    private final Map<Integer, CompletableFuture<Labyrinth>> floors;
+    private final ExecutorService generator;
+    private int depth;
+
+    /**
+     * Creates a dungeon whose top floor is the given labyrinth, and starts generating
+     * the floors below it.
+     *
+     * @param firstFloor The top floor
+     * @param floorCount The number of floors, including the top one
+     */
+    public Dungeon(Labyrinth firstFloor, int floorCount) {
+        if (floorCount < 1) {
+            throw new IllegalArgumentException("A dungeon needs at least one floor");
+        }
+
+        this.width = firstFloor.getWidth();
+        this.height = firstFloor.getHeight();
+        this.seed = firstFloor.getSeed();
+        this.procedural = firstFloor.isProcedural();
+        this.parallel = firstFloor.isParallel();
+        this.difficulty = firstFloor.getDifficulty();
+        this.floorCount = floorCount;
+        this.floors = new TreeMap<>();
+        this.floors.put(0, CompletableFuture.completedFuture(firstFloor));
+        this.generator = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "floor-generator");
+            thread.setDaemon(true);
+            // The floor being played comes first
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        this.depth = 0;
+        prefetch();
+    }
+
+    /**
+     * Derives the seed of a floor from the dungeon's seed. The top floor uses the
+     * dungeon's seed itself.
+     *
+     * @param seed  The dungeon's seed
+     * @param depth The floor's depth, 0 for the top floor
+     * @return The floor's seed
+     */
+    public static long floorSeed(long seed, int depth) {
+        return depth == 0 ? seed : GameRandom.mix(seed, depth);
+    }
+
+    /**
+     * Goes down to the next floor. If it has been generated in the background this
+     * returns at once; otherwise it waits for, or does, the generation.
+     *
+     * @return The new current floor
+     * @throws IllegalStateException If the current floor is the bottom one
+     * @throws CompletionException   If the floor could not be generated
+     */
+    public synchronized Labyrinth descend() {
+        if (!hasNextFloor()) {
+            throw new IllegalStateException("There is no floor below floor " + (depth + 1));
+        }
+
+        // Only go down once the floor exists, so a failed generation leaves the player where they are
+        Labyrinth floor = getFloor(depth + 1);
+        depth++;
+        evict();
+        prefetch();
+        return floor;
+    }
+
+    /**
+     * Gets a floor, waiting for its generation if it is underway, or generating it
+     * on the calling thread if it hasn't been started. A floor whose generation failed
+     * is generated again, so a failure isn't cached.
+     *
+     * @param floorDepth The floor's depth, 0 for the top floor
+     * @return The floor
+     * @throws CompletionException If the floor could not be generated
+     */
+    public Labyrinth getFloor(int floorDepth) {
+        if (floorDepth < 0 || floorDepth >= floorCount) {
+            throw new IllegalArgumentException("No floor at depth " + floorDepth);
+        }
+
+        CompletableFuture<Labyrinth> floor;
+        synchronized (this) {
+            floor = floors.get(floorDepth);
+            if (floor == null || floor.isCompletedExceptionally()) {
+                floor = new CompletableFuture<>();
+                floors.put(floorDepth, floor);
+                try {
+                    floor.complete(generate(floorDepth));
+                } catch (RuntimeException | Error e) {
+                    // Never leave an incomplete future behind for others to wait on
+                    floors.remove(floorDepth);
+                    floor.completeExceptionally(e);
+                }
+            }
+        }
+        return floor.join();
+    }
+
+    /**
+     * Checks whether a floor is ready to be played without waiting.
+     *
+     * @param floorDepth The floor's depth
+     * @return true if the floor has been generated and is cached
+     */
+    public synchronized boolean isFloorReady(int floorDepth) {
+        CompletableFuture<Labyrinth> floor = floors.get(floorDepth);
+        return floor != null && floor.isDone() && !floor.isCompletedExceptionally();
+    }
+
+    /**
+     * Starts generating the floors just below the current one that aren't cached yet.
+     */
+    private void prefetch() {
+        int last = Math.min(floorCount - 1, depth + PREFETCH_DEPTH);
+        for (int floorDepth = depth + 1; floorDepth <= last; floorDepth++) {
+            if (!floors.containsKey(floorDepth)) {
+                int target = floorDepth;
+                floors.put(floorDepth, CompletableFuture.supplyAsync(() -> generate(target), generator));
+            }
+        }
+    }
+
+    /**
+     * Drops the floors more than {@link #KEPT_ABOVE} floors above the current one.
+     */
+    private void evict() {
+        Iterator<Map.Entry<Integer, CompletableFuture<Labyrinth>>> iterator = floors.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, CompletableFuture<Labyrinth>> entry = iterator.next();
+            if (entry.getKey() >= depth - KEPT_ABOVE) {
+                break;
+            }
+            entry.getValue().cancel(false);
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Generates a floor the same way as the top floor.
+     */
+    private Labyrinth generate(int floorDepth) {
+        long floorSeed = floorSeed(seed, floorDepth);
+        if (procedural) {
+            return Labyrinth.procedural(width, height, floorSeed, difficulty);
+        } else if (parallel) {
+            return Labyrinth.parallel(width, height, floorSeed, ForkJoinPool.commonPool(), difficulty);
+        }
+        return new Labyrinth(width, height, floorSeed, difficulty);
+    }
+
+    /**
+     * Checks whether there is a floor below the current one.
+     *
+     * @return true if the player can go further down
+     */
+    public synchronized boolean hasNextFloor() {
+        return depth + 1 < floorCount;
+    }
+
+    // Getters
+
+    public synchronized Labyrinth getCurrentFloor() {
+        return getFloor(depth);
+    }
+
+    public synchronized int getDepth() {
+        return depth;
+    }
+
+    public int getFloorCount() {
+        return floorCount;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of floors currently cached or being generated.
+     *
+     * @return The number of cached floors
+     */
+    public synchronized int getCachedFloorCount() {
+        return floors.size();
+    }
+}
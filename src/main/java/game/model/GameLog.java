@@ -0,0 +1,46 @@
+package game.model;
+
+import java.util.function.Consumer;
+
+/**
+ * Where the model reports what happens during play, such as damage taken or an enemy
+ * waking up. Each thread has its own destination: a controller routes it to its view
+ * while it runs a command, so games played on different threads at once each report
+ * to their own view. Messages from threads without a destination go to standard output.
+ */
+public final class GameLog {
+    private static final ThreadLocal<Consumer<String>> DESTINATION = new ThreadLocal<>();
+
+    private GameLog() {
+    }
+
+    /**
+     * Reports a message to the current thread's destination.
+     *
+     * @param message The message
+     */
+    public static void print(String message) {
+        Consumer<String> destination = DESTINATION.get();
+        if (destination != null) {
+            destination.accept(message);
+        } else {
+            System.out.println(message);
+        }
+    }
+
+    /**
+     * Sends the current thread's messages somewhere else.
+     *
+     * @param destination Where to send them, or null for standard output
+     * @return The previous destination, to restore afterwards
+     */
+    public static Consumer<String> route(Consumer<String> destination) {
+        Consumer<String> previous = DESTINATION.get();
+        if (destination != null) {
+            DESTINATION.set(destination);
+        } else {
+            DESTINATION.remove();
+        }
+        return previous;
+    }
+}
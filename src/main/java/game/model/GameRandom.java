@@ -0,0 +1,57 @@
+package game.model;
+
+import java.util.Random;
+
+/**
+ * Source of randomness for gameplay events such as combat rolls, traps and enemy behavior.
+ * Each thread has its own generator, which a game session reseeds when it starts
+ * so that the same world seed and command stream always play out the same way.
+ */
+public final class GameRandom {
+    private static final ThreadLocal<Random> CURRENT = ThreadLocal.withInitial(Random::new);
+
+    private GameRandom() {
+    }
+
+    /**
+     * Gets the generator for the current thread.
+     *
+     * @return The current generator
+     */
+    public static Random current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Replaces the current thread's generator with one seeded deterministically.
+     *
+     * @param seed The seed to use
+     */
+    public static void reseed(long seed) {
+        CURRENT.set(new Random(seed));
+    }
+
+    /**
+     * Derives an independent seed from a base seed and an index, such as the
+     * world seed and a cell index. Nearby indices give unrelated seeds.
+     *
+     * @param seed  The base seed
+     * @param index The index to mix in
+     * @return The derived seed
+     */
+    public static long mix(long seed, long index) {
+        long z = seed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns the next random double between 0.0 and 1.0 from the current generator.
+     *
+     * @return A random double
+     */
+    public static double nextDouble() {
+        return CURRENT.get().nextDouble();
+    }
+}
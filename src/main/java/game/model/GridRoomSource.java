@@ -0,0 +1,32 @@
+package game.model;
+
+import game.model.rooms.Room;
+import game.model.rooms.RoomType;
+
+/**
+ * Room source backed by a fully generated grid holding a room object per cell.
+ */
+final class GridRoomSource implements RoomSource {
+    private final Room[][] rooms;
+
+    GridRoomSource(Room[][] rooms) {
+        this.rooms = rooms;
+    }
+
+    @Override
+    public Room getRoom(int x, int y) {
+        return rooms[y][x];
+    }
+
+    @Override
+    public RoomType getType(int x, int y) {
+        Room room = rooms[y][x];
+        return room == null ? null : room.getType();
+    }
+
+    @Override
+    public boolean isVisited(int x, int y) {
+        Room room = rooms[y][x];
+        return room != null && room.isVisited();
+    }
+}
@@ -0,0 +1,139 @@
+package game.model;
+
+import game.model.content.ArtifactTemplate;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The player's collection of artifacts, stacked by template.
+ * Artifacts created from the same template share one stack with a count,
+ * and stacks are indexed by name and key id so lookups don't scan the inventory.
+ */
+public class Inventory {
+    private final Map<ArtifactTemplate, Stack> stacks;
+    private final Map<String, Stack> byName;
+    private final Map<String, Stack> byKeyId;
+    private int size;
+    
+    /**
+     * Creates an empty inventory.
+     */
+    public Inventory() {
+        this.stacks = new LinkedHashMap<>();
+        this.byName = new HashMap<>();
+        this.byKeyId = new HashMap<>();
+        this.size = 0;
+    }
+    
+    /**
+     * Adds an artifact, growing its template's stack or starting a new one.
+     * 
+     * @param artifact The artifact to add
+     * @return The stack the artifact was added to
+     */
+    public Stack add(Artifact artifact) {
+        ArtifactTemplate template = artifact.getTemplate();
+        Stack stack = stacks.get(template);
+        if (stack == null) {
+            stack = new Stack(template);
+            stacks.put(template, stack);
+            // The first stack with a given name or key keeps the index entry
+            byName.putIfAbsent(template.getName().toLowerCase(), stack);
+            if (template.isKey()) {
+                byKeyId.putIfAbsent(template.getKeyId(), stack);
+            }
+        }
+        stack.count++;
+        size++;
+        return stack;
+    }
+    
+    /**
+     * Checks if the inventory holds an artifact with the given name, ignoring case.
+     * 
+     * @param name Name of the artifact
+     * @return true if present, false otherwise
+     */
+    public boolean contains(String name) {
+        return byName.containsKey(name.toLowerCase());
+    }
+    
+    /**
+     * Checks if the inventory holds a key for the given lock.
+     * 
+     * @param keyId Identifier of the lock
+     * @return true if a matching key is present, false otherwise
+     */
+    public boolean hasKey(String keyId) {
+        return byKeyId.containsKey(keyId);
+    }
+    
+    /**
+     * Gets the number of artifacts created from a template.
+     * 
+     * @param template The template to count
+     * @return The number of artifacts, 0 if none
+     */
+    public int count(ArtifactTemplate template) {
+        Stack stack = stacks.get(template);
+        return stack == null ? 0 : stack.count;
+    }
+    
+    /**
+     * Checks if the inventory is empty.
+     * 
+     * @return true if there are no artifacts, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    /**
+     * Gets the total number of artifacts, counting every item in each stack.
+     * 
+     * @return The number of artifacts
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Gets the stacks in the order they were first obtained.
+     * 
+     * @return An unmodifiable view of the stacks
+     */
+    public Collection<Stack> getStacks() {
+        return Collections.unmodifiableCollection(stacks.values());
+    }
+    
+    /**
+     * A template and the number of artifacts of it the player holds.
+     */
+    public static class Stack {
+        private final ArtifactTemplate template;
+        private int count;
+        
+        private Stack(ArtifactTemplate template) {
+            this.template = template;
+        }
+        
+        // Getters
+        
+        public ArtifactTemplate getTemplate() {
+            return template;
+        }
+        
+        public int getCount() {
+            return count;
+        }
+        
+        @Override
+        public String toString() {
+            return count > 1 ? template + " x" + count : template.toString();
+        }
+    }
+}
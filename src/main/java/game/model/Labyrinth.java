@@ -1,35 +1,298 @@
 package game.model;
 
 import game.model.entities.Enemy;
+import game.model.entities.EnemyRegistry;
 import game.model.rooms.*;
+import game.monitoring.MazeGenerationEvent;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Represents the labyrinth, containing a grid of rooms.
+ * A labyrinth is either generated up front with a room object per cell, or
+ * procedural, in which case rooms are derived from the seed as they are looked up
+ * and only visited rooms are kept. Large labyrinths can be generated in parallel
+ * tiles of {@link #TILE_SIZE} cells. A procedural labyrinth can also keep its cell
+ * state off the heap, which lifts the limit of two billion cells.
  */
 public class Labyrinth {
+    public static final int TILE_SIZE = 128;
+    private static final long TILE_SALT = 0x2545F4914F6CDD1DL;
+    
+
     private int width;
     private int height;
     private Room[][] rooms;
+    private RoomSource roomSource;
     private RoomFactory roomFactory;
+    private EnemyRegistry enemyRegistry;
+    private RoomTypeIndex roomIndex;
+    private OverlayRoomSource overlay; // Null unless rooms are created on demand
+    private boolean procedural;
+    private boolean parallel;
+    private Difficulty difficulty;
     private Position exitPosition;
     private Random random;
+    private long seed;
     
     /**
-     * Creates a new labyrinth with the specified dimensions.
+     * Creates a new labyrinth with the specified dimensions and a random seed.
      * 
      * @param width  Width of the labyrinth
      * @param height Height of the labyrinth
      */
     public Labyrinth(int width, int height) {
+        this(width, height, new Random().nextLong());
+    }
+    
+    /**
+     * Creates a new labyrinth with the specified dimensions.
+     * The same dimensions and seed always produce the same labyrinth.
+     * 
+     * @param width  Width of the labyrinth
+     * @param height Height of the labyrinth
+     * @param seed   Seed for the world generator
+     */
+    public Labyrinth(int width, int height, long seed) {
+        this(width, height, seed, Difficulty.get());
+    }
+    
+    /**
+     * Creates a new labyrinth with the specified dimensions and difficulty settings
+     * instead of the current ones.
+     * 
+     * @param width      Width of the labyrinth
+     * @param height     Height of the labyrinth
+     * @param seed       Seed for the world generator
+     * @param difficulty The room ratios to use
+     */
+    public Labyrinth(int width, int height, long seed, Difficulty difficulty) {
+        this(width, height, seed, false, null, difficulty);
+    }
+    
+    /**
+     * Creates a labyrinth generated in parallel on the common fork/join pool.
+     * 
+     * @param width  Width of the labyrinth
+     * @param height Height of the labyrinth
+     * @param seed   Seed for the world generator
+     * @return The new labyrinth
+     * @see #parallel(int, int, long, ForkJoinPool)
+     */
+    public static Labyrinth parallel(int width, int height, long seed) {
+        return parallel(width, height, seed, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Creates a labyrinth generated in parallel. The grid is split into tiles that are
+     * filled independently, each from its own random stream derived from the seed and
+     * the tile index, so the result is the same whatever the pool's parallelism.
+     * It differs from the sequential labyrinth for the same seed.
+     * 
+     * @param width  Width of the labyrinth
+     * @param height Height of the labyrinth
+     * @param seed   Seed for the world generator
+     * @param pool   The pool to generate on
+     * @return The new labyrinth
+     */
+    public static Labyrinth parallel(int width, int height, long seed, ForkJoinPool pool) {
+        return parallel(width, height, seed, pool, Difficulty.get());
+    }
+    
+    /**
+     * Creates a labyrinth generated in parallel with the given difficulty settings.
+     * 
+     * @param width      Width of the labyrinth
+     * @param height     Height of the labyrinth
+     * @param seed       Seed for the world generator
+     * @param pool       The pool to generate on
+     * @param difficulty The room ratios to use
+     * @return The new labyrinth
+     * @see #parallel(int, int, long, ForkJoinPool)
+     */
+    public static Labyrinth parallel(int width, int height, long seed, ForkJoinPool pool, Difficulty difficulty) {
+        return new Labyrinth(width, height, seed, false, pool, difficulty);
+    }
+    
+    /**
+     * Creates a procedural labyrinth, which stores no rooms up front. Each room is
+     * derived from the seed and its coordinates when it is looked up, and only rooms
+     * the player has visited are kept, so memory grows with exploration rather than size.
+     * 
+     * @param width  Width of the labyrinth
+     * @param height Height of the labyrinth
+     * @param seed   Seed for the world generator
+     * @return The new labyrinth
+     */
+    public static Labyrinth procedural(int width, int height, long seed) {
+        return procedural(width, height, seed, Difficulty.get());
+    }
+    
+    /**
+     * Creates a procedural labyrinth with the given difficulty settings.
+     * 
+     * @param width      Width of the labyrinth
+     * @param height     Height of the labyrinth
+     * @param seed       Seed for the world generator
+     * @param difficulty The room ratios to use
+     * @return The new labyrinth
+     * @see #procedural(int, int, long)
+     */
+    public static Labyrinth procedural(int width, int height, long seed, Difficulty difficulty) {
+        return new Labyrinth(width, height, seed, true, null, difficulty);
+    }
+    
+    /**
+     * Creates a procedural labyrinth whose room types and visited flags are kept in
+     * direct memory, one byte per cell, addressed by long indices. The grid may have
+     * more than two billion cells, and since its state is a handful of large buffers
+     * rather than objects, garbage collection doesn't slow down as it grows.
+     * Rooms are the same as in {@link #procedural(int, int, long)} for the same seed.
+     * 
+     * @param width  Width of the labyrinth
+     * @param height Height of the labyrinth
+     * @param seed   Seed for the world generator
+     * @return The new labyrinth
+     */
+    public static Labyrinth offHeap(int width, int height, long seed) {
+        return offHeap(width, height, seed, Difficulty.get());
+    }
+    
+    /**
+     * Creates an off-heap procedural labyrinth with the given difficulty settings.
+     * 
+     * @param width      Width of the labyrinth
+     * @param height     Height of the labyrinth
+     * @param seed       Seed for the world generator
+     * @param difficulty The room ratios to use
+     * @return The new labyrinth
+     * @see #offHeap(int, int, long)
+     */
+    public static Labyrinth offHeap(int width, int height, long seed, Difficulty difficulty) {
+        return new Labyrinth(width, height, seed, CellStore.allocate((long) width * height), difficulty);
+    }
+    
+    /**
+     * Creates an off-heap procedural labyrinth whose cell state is kept in a memory-mapped
+     * scratch file rather than direct memory. Pages are only touched as cells are, so
+     * creation takes the same short time whatever the size. The file is overwritten.
+     * 
+     * @param width  Width of the labyrinth
+     * @param height Height of the labyrinth
+     * @param seed   Seed for the world generator
+     * @param file   The scratch file to map
+     * @return The new labyrinth
+     * @throws IOException If the file cannot be created or mapped
+     * @see #offHeap(int, int, long)
+     */
+    public static Labyrinth offHeap(int width, int height, long seed, Path file) throws IOException {
+        return offHeap(width, height, seed, file, Difficulty.get());
+    }
+    
+    /**
+     * Creates an off-heap procedural labyrinth backed by a scratch file, with the given
+     * difficulty settings.
+     * 
+     * @param width      Width of the labyrinth
+     * @param height     Height of the labyrinth
+     * @param seed       Seed for the world generator
+     * @param file       The scratch file to map
+     * @param difficulty The room ratios to use
+     * @return The new labyrinth
+     * @throws IOException If the file cannot be created or mapped
+     * @see #offHeap(int, int, long, Path)
+     */
+    public static Labyrinth offHeap(int width, int height, long seed, Path file, Difficulty difficulty)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.SPARSE)) {
+            CellStore cells = CellStore.map(channel, FileChannel.MapMode.READ_WRITE, 0, (long) width * height);
+            return new Labyrinth(width, height, seed, cells, difficulty);
+        }
+    }
+    
+    private Labyrinth(int width, int height, long seed, CellStore cells, Difficulty difficulty) {
+        this.width = width;
+        this.height = height;
+        this.seed = seed;
+        this.roomFactory = new RoomFactory(seed, width);
+        this.enemyRegistry = new EnemyRegistry(width, height);
+        this.procedural = true;
+        this.difficulty = difficulty;
+        this.overlay = new OffHeapRoomSource(seed, width, height, difficulty, cells, roomFactory, enemyRegistry);
+        this.roomSource = overlay;
+        this.exitPosition = Position.of(width - 1, height - 1);
+        reserveEnemies();
+    }
+    
+    /**
+     * Opens a labyrinth saved with {@link #save(Path)}. The file is memory-mapped, so this
+     * takes the same short time whatever the labyrinth's size, and cells are read from
+     * the file as they are needed. Rooms are created on demand as in a procedural labyrinth.
+     * The labyrinth has the difficulty settings it was saved with, not the current ones.
+     * 
+     * @param path The file to open
+     * @return The labyrinth
+     * @throws IOException If the file cannot be read or is not a labyrinth file
+     */
+    public static Labyrinth load(Path path) throws IOException {
+        return new Labyrinth(LabyrinthFile.open(path));
+    }
+    
+    private Labyrinth(LabyrinthFile file) {
+        this.width = file.getWidth();
+        this.height = file.getHeight();
+        this.seed = file.getSeed();
+        this.roomFactory = new RoomFactory(seed, width);
+        this.enemyRegistry = new EnemyRegistry(width, height);
+        this.procedural = file.isProcedural();
+        this.parallel = file.isParallel();
+        this.difficulty = file.getDifficulty();
+        this.overlay = new MappedRoomSource(file, roomFactory, enemyRegistry);
+        this.roomSource = overlay;
+        this.exitPosition = file.getExit();
+        reserveEnemies();
+    }
+    
+    private Labyrinth(int width, int height, long seed, boolean procedural, ForkJoinPool pool, Difficulty difficulty) {
         this.width = width;
         this.height = height;
-        this.rooms = new Room[height][width];
-        this.roomFactory = new RoomFactory();
-        this.random = new Random();
+        this.seed = seed;
+        this.difficulty = difficulty;
+        this.random = new Random(seed);
+        this.roomFactory = new RoomFactory(seed, width);
+        this.enemyRegistry = new EnemyRegistry(width, height);
         
-        generateLabyrinth();
+        MazeGenerationEvent event = new MazeGenerationEvent();
+        event.begin();
+        if (procedural) {
+            this.procedural = true;
+            this.overlay = new ProceduralRoomSource(seed, width, height, difficulty, roomFactory, enemyRegistry);
+            this.roomSource = overlay;
+            this.exitPosition = Position.of(width - 1, height - 1);
+            reserveEnemies();
+        } else if (pool != null) {
+            this.parallel = true;
+            this.rooms = new Room[height][width];
+            this.roomSource = new GridRoomSource(rooms);
+            generateTiles(pool);
+        } else {
+            this.rooms = new Room[height][width];
+            this.roomSource = new GridRoomSource(rooms);
+            generateLabyrinth();
+        }
+        if (event.shouldCommit()) {
+            event.width = width;
+            event.height = height;
+            event.seed = seed;
+            event.commit();
+        }
     }
     
     /**
@@ -44,10 +307,13 @@ public class Labyrinth {
         
         // Place exit room
         placeExitRoom();
+        
+        roomIndex = new RoomTypeIndex(this);
     }
     
     /**
      * Creates a maze structure using a simple randomized DFS algorithm.
+     * Cells are tracked by their index y * width + x, so the search itself allocates nothing per cell.
      */
     private void createMazeStructure() {
         // Initialize all rooms as null (walls)
@@ -60,73 +326,61 @@ public class Labyrinth {
         // Start from a random position
         int startX = random.nextInt(width);
         int startY = random.nextInt(height);
-        Position start = new Position(startX, startY);
         
-        // Create a set to track visited positions
-        Set<Position> visited = new HashSet<>();
+        boolean[] visited = new boolean[width * height];
+        int[] stack = new int[width * height];
+        int stackSize = 0;
         
-        // Create a stack for DFS
-        Stack<Position> stack = new Stack<>();
+        // Unvisited neighbors of the current cell, in north, east, south, west order
+        int[] neighbors = new int[4];
+        int[] neighborCount = new int[1];
+        Position.NeighborVisitor collectUnvisited = (direction, nx, ny) -> {
+            if (nx >= 0 && nx < width && ny >= 0 && ny < height && !visited[ny * width + nx]) {
+                neighbors[neighborCount[0]++] = ny * width + nx;
+            }
+        };
         
         // Add the starting position
-        visited.add(start);
-        stack.push(start);
+        int start = startY * width + startX;
+        visited[start] = true;
+        stack[stackSize++] = start;
         
         // Create the starting room
-        rooms[startY][startX] = roomFactory.createRoom(RoomType.REGULAR, new Position(startX, startY));
+        rooms[startY][startX] = roomFactory.createRoom(RoomType.REGULAR, Position.of(startX, startY));
         
         // DFS to create passages
-        while (!stack.isEmpty()) {
-            Position current = stack.peek();
+        while (stackSize > 0) {
+            int current = stack[stackSize - 1];
             
             // Get unvisited neighbors
-            List<Position> neighbors = getUnvisitedNeighbors(current, visited);
+            neighborCount[0] = 0;
+            Position.forEachNeighbor(current % width, current / width, collectUnvisited);
             
-            if (!neighbors.isEmpty()) {
+            if (neighborCount[0] > 0) {
                 // Choose a random neighbor
-                Position next = neighbors.get(random.nextInt(neighbors.size()));
+                int next = neighbors[random.nextInt(neighborCount[0])];
+                int nextX = next % width;
+                int nextY = next / width;
                 
                 // Mark as visited
-                visited.add(next);
+                visited[next] = true;
                 
                 // Create a room at this position
-                rooms[next.getY()][next.getX()] = roomFactory.createRoom(RoomType.REGULAR, next);
+                rooms[nextY][nextX] = roomFactory.createRoom(RoomType.REGULAR, Position.of(nextX, nextY));
                 
                 // Push to stack
-                stack.push(next);
+                stack[stackSize++] = next;
             } else {
                 // Backtrack
-                stack.pop();
+                stackSize--;
             }
         }
     }
     
-    /**
-     * Gets the unvisited neighbors of a position.
-     */
-    private List<Position> getUnvisitedNeighbors(Position pos, Set<Position> visited) {
-        List<Position> neighbors = new ArrayList<>();
-        
-        // Check all four directions
-        int[] dx = {0, 1, 0, -1}; // North, East, South, West
-        int[] dy = {-1, 0, 1, 0};
-        
-        for (int i = 0; i < 4; i++) {
-            int nx = pos.getX() + dx[i];
-            int ny = pos.getY() + dy[i];
-            
-            // Check if the position is valid and not visited
-            if (nx >= 0 && nx < width && ny >= 0 && ny < height && 
-                !visited.contains(new Position(nx, ny))) {
-                neighbors.add(new Position(nx, ny));
-            }
-        }
-        
-        return neighbors;
-    }
-    
     /**
      * Assigns room types based on the maze structure.
+     * Special rooms are drawn from a pool of the regular cells with a partial
+     * Fisher-Yates shuffle, so each placement takes one random draw.
      */
     private void assignRoomTypes() {
         // Count the number of rooms
@@ -140,52 +394,196 @@ public class Labyrinth {
         }
         
         // Determine counts for each room type
-        int puzzleCount = roomCount / 10;
-        int treasureCount = roomCount / 8;
-        int monsterCount = roomCount / 6;
-        int trapCount = roomCount / 8;
+        int puzzleCount = difficulty.count(RoomType.PUZZLE, roomCount);
+        int treasureCount = difficulty.count(RoomType.TREASURE, roomCount);
+        int monsterCount = difficulty.count(RoomType.MONSTER, roomCount);
+        int trapCount = difficulty.count(RoomType.TRAP, roomCount);
+        
+        // Every regular room except the entry position is a candidate
+        int[] candidates = new int[roomCount];
+        int candidateCount = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (rooms[y][x] != null && rooms[y][x].getType() == RoomType.REGULAR && (x != 0 || y != 0)) {
+                    candidates[candidateCount++] = y * width + x;
+                }
+            }
+        }
         
         // Place puzzle rooms
-        placeRooms(RoomType.PUZZLE, puzzleCount);
+        candidateCount = placeRooms(RoomType.PUZZLE, puzzleCount, candidates, candidateCount);
         
         // Place treasure rooms
-        placeRooms(RoomType.TREASURE, treasureCount);
+        candidateCount = placeRooms(RoomType.TREASURE, treasureCount, candidates, candidateCount);
         
         // Place monster rooms
-        placeRooms(RoomType.MONSTER, monsterCount);
+        candidateCount = placeRooms(RoomType.MONSTER, monsterCount, candidates, candidateCount);
         
         // Place trap rooms
-        placeRooms(RoomType.TRAP, trapCount);
+        placeRooms(RoomType.TRAP, trapCount, candidates, candidateCount);
     }
     
     /**
-     * Places a specific number of rooms of a certain type.
+     * Places a specific number of rooms of a certain type, or as many as there are candidates left.
+     * Each placed cell is swapped out of the live part of the candidate pool.
+     * 
+     * @param type           The room type to place
+     * @param count          How many rooms to place
+     * @param candidates     Indices of the regular cells that may still be replaced
+     * @param candidateCount Number of live entries at the front of the pool
+     * @return The number of candidates left
      */
-    private void placeRooms(RoomType type, int count) {
+    private int placeRooms(RoomType type, int count, int[] candidates, int candidateCount) {
+        count = Math.min(count, candidateCount);
         for (int i = 0; i < count; i++) {
-            boolean placed = false;
-            while (!placed) {
-                int x = random.nextInt(width);
-                int y = random.nextInt(height);
-                
-                // Skip if position is a wall or entry position
-                if (rooms[y][x] == null || (x == 0 && y == 0)) {
-                    continue;
-                }
-                
-                // Skip if already a special room
-                if (rooms[y][x].getType() != RoomType.REGULAR) {
-                    continue;
-                }
-                
-                // Replace the room
-                Position pos = new Position(x, y);
-                rooms[y][x] = roomFactory.createRoom(type, pos);
-                placed = true;
+            int pick = random.nextInt(candidateCount);
+            int cell = candidates[pick];
+            candidates[pick] = candidates[--candidateCount];
+            
+            // Replace the room
+            int x = cell % width;
+            int y = cell / width;
+            rooms[y][x] = roomFactory.createRoom(type, Position.of(x, y));
+            if (rooms[y][x] instanceof MonsterRoom) {
+                registerEnemy((MonsterRoom) rooms[y][x]);
+            }
+        }
+        return candidateCount;
+    }
+    
+    /**
+     * Generates the labyrinth tile by tile on a fork/join pool.
+     * Every cell holds a room, so there are no passages to carve or join between
+     * tiles: each tile assigns its own room types and creates its rooms, and the
+     * exit goes in the regular room farthest from the start, as in sequential generation.
+     */
+    private void generateTiles(ForkJoinPool pool) {
+        int tilesX = (width + TILE_SIZE - 1) / TILE_SIZE;
+        int tilesY = (height + TILE_SIZE - 1) / TILE_SIZE;
+        int[] farthest = new int[tilesX * tilesY];
+        pool.invoke(new TileTask(0, tilesX * tilesY, tilesX, farthest));
+        
+        // Reduce in tile order, so ties go to the first cell in row-major order
+        int exitCell = -1;
+        for (int cell : farthest) {
+            if (cell < 0) {
+                continue;
+            }
+            int distance = cell % width + cell / width;
+            int best = exitCell < 0 ? -1 : exitCell % width + exitCell / width;
+            if (distance > best || (distance == best && cell < exitCell)) {
+                exitCell = cell;
+            }
+        }
+        
+        // Fall back to the far corner if no suitable position was found
+        exitPosition = exitCell >= 0 && exitCell % width + exitCell / width > 0
+                ? Position.of(exitCell % width, exitCell / width)
+                : Position.of(width - 1, height - 1);
+        rooms[exitPosition.getY()][exitPosition.getX()] = roomFactory.createRoom(RoomType.EXIT, exitPosition);
+        
+        roomIndex = new RoomTypeIndex(this);
+        for (Room room : roomIndex.rooms(RoomType.MONSTER)) {
+            registerEnemy((MonsterRoom) room);
+        }
+    }
+    
+    /**
+     * Fills one tile with rooms. Special room types are drawn with a partial Fisher-Yates
+     * shuffle over the tile's cells, in the same proportions as {@link #assignRoomTypes()}.
+     * 
+     * @param tile     The tile index
+     * @param tilesX   Number of tiles per row
+     * @return The cell index of the tile's regular room farthest from the start, or -1
+     */
+    private int generateTile(int tile, int tilesX) {
+        Random tileRandom = new Random(GameRandom.mix(seed ^ TILE_SALT, tile));
+        int x0 = (tile % tilesX) * TILE_SIZE;
+        int y0 = (tile / tilesX) * TILE_SIZE;
+        int tileWidth = Math.min(TILE_SIZE, width - x0);
+        int tileHeight = Math.min(TILE_SIZE, height - y0);
+        int cellCount = tileWidth * tileHeight;
+        
+        // Every cell except the entry position is a candidate, by its index within the tile
+        RoomType[] types = new RoomType[cellCount];
+        Arrays.fill(types, RoomType.REGULAR);
+        int[] candidates = new int[cellCount];
+        int candidateCount = 0;
+        for (int i = 0; i < cellCount; i++) {
+            if (x0 + i % tileWidth != 0 || y0 + i / tileWidth != 0) {
+                candidates[candidateCount++] = i;
+            }
+        }
+        
+        RoomType[] placed = {RoomType.PUZZLE, RoomType.TREASURE, RoomType.MONSTER, RoomType.TRAP};
+        for (RoomType type : placed) {
+            int count = Math.min(difficulty.count(type, cellCount), candidateCount);
+            for (int i = 0; i < count; i++) {
+                int pick = tileRandom.nextInt(candidateCount);
+                types[candidates[pick]] = type;
+                candidates[pick] = candidates[--candidateCount];
+            }
+        }
+        
+        int farthest = -1;
+        int maxDistance = -1;
+        for (int i = 0; i < cellCount; i++) {
+            int x = x0 + i % tileWidth;
+            int y = y0 + i / tileWidth;
+            rooms[y][x] = roomFactory.createRoom(types[i], Position.of(x, y));
+            if (types[i] == RoomType.REGULAR && x + y > maxDistance) {
+                maxDistance = x + y;
+                farthest = y * width + x;
+            }
+        }
+        return farthest;
+    }
+    
+    /**
+     * Generates a range of tiles, splitting it in half until each task has one tile.
+     */
+    private final class TileTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        private final int from;
+        private final int to;
+        private final int tilesX;
+        private final int[] farthest;
+        
+        TileTask(int from, int to, int tilesX, int[] farthest) {
+            this.from = from;
+            this.to = to;
+            this.tilesX = tilesX;
+            this.farthest = farthest;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                farthest[from] = generateTile(from, tilesX);
+                return;
             }
+            int middle = (from + to) >>> 1;
+            invokeAll(new TileTask(from, middle, tilesX, farthest), new TileTask(middle, to, tilesX, farthest));
         }
     }
     
+    /**
+     * Reserves the enemies of a labyrinth whose rooms are created on demand, from its
+     * monster room count, so the registry knows how many are still to spawn.
+     */
+    private void reserveEnemies() {
+        enemyRegistry.reserve(countRooms(RoomType.MONSTER));
+    }
+    
+    /**
+     * Connects a monster room to the registry, which then tracks its enemy from spawn to defeat.
+     */
+    private void registerEnemy(MonsterRoom room) {
+        enemyRegistry.reserve(1);
+        room.setEnemyRegistry(enemyRegistry);
+    }
+    
     /**
      * Places the exit room at a random location far from the start.
      */
@@ -200,7 +598,7 @@ public class Labyrinth {
                     int distance = x + y; // Manhattan distance
                     if (distance > maxDistance) {
                         maxDistance = distance;
-                        farthestPos = new Position(x, y);
+                        farthestPos = Position.of(x, y);
                     }
                 }
             }
@@ -215,7 +613,7 @@ public class Labyrinth {
             // Fallback if no suitable position found
             int x = width - 1;
             int y = height - 1;
-            exitPosition = new Position(x, y);
+            exitPosition = Position.of(x, y);
             rooms[y][x] = roomFactory.createRoom(RoomType.EXIT, exitPosition);
         }
     }
@@ -227,14 +625,52 @@ public class Labyrinth {
      * @return The room, or null if out of bounds or a wall
      */
     public Room getRoomAt(Position position) {
-        int x = position.getX();
-        int y = position.getY();
+        return getRoomAt(position.getX(), position.getY());
+    }
+    
+    /**
+     * Gets the room at the specified coordinates.
+     * 
+     * @param x The x-coordinate
+     * @param y The y-coordinate
+     * @return The room, or null if out of bounds or a wall
+     */
+    public Room getRoomAt(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return null;
+        }
         
+        return roomSource.getRoom(x, y);
+    }
+    
+    /**
+     * Gets the type of the room at the specified coordinates without creating the room.
+     * 
+     * @param x The x-coordinate
+     * @param y The y-coordinate
+     * @return The room type, or null if out of bounds or a wall
+     */
+    public RoomType getRoomType(int x, int y) {
         if (x < 0 || x >= width || y < 0 || y >= height) {
             return null;
         }
         
-        return rooms[y][x];
+        return roomSource.getType(x, y);
+    }
+    
+    /**
+     * Checks if the room at the specified coordinates has been visited, without creating the room.
+     * 
+     * @param x The x-coordinate
+     * @param y The y-coordinate
+     * @return true if visited, false if unvisited, out of bounds or a wall
+     */
+    public boolean isVisited(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return false;
+        }
+        
+        return roomSource.isVisited(x, y);
     }
     
     /**
@@ -249,23 +685,67 @@ public class Labyrinth {
     }
     
     /**
-     * Gets all enemies in the labyrinth.
+     * Gets all enemies that have spawned, including defeated ones. Enemies of monster
+     * rooms that haven't been entered yet don't exist and aren't created by this; the
+     * registry's reserved count says how many of them are still to come.
      * 
-     * @return List of all enemies
+     * @return A read-only view of the spawned enemies
+     * @see EnemyRegistry#getReservedCount()
      */
     public List<Enemy> getAllEnemies() {
-        List<Enemy> enemies = new ArrayList<>();
+        return enemyRegistry.getAll();
+    }
+    
+    /**
+     * Gets the rooms of a type, in row-major order.
+     * A procedural or loaded labyrinth has no index, so there this scans every cell
+     * and looks the rooms up; rooms that haven't been visited are fresh copies.
+     * 
+     * @param type The room type
+     * @return A read-only list of the rooms
+     */
+    public List<Room> getRoomsOfType(RoomType type) {
+        if (overlay == null) {
+            return roomIndex.rooms(type);
+        }
         
+        List<Room> result = new ArrayList<>();
         for (int y = 0; y < height; y++) {
             for (int x = 0; x < width; x++) {
-                if (rooms[y][x] instanceof MonsterRoom) {
-                    MonsterRoom monsterRoom = (MonsterRoom) rooms[y][x];
-                    enemies.add(monsterRoom.getEnemy());
+                if (overlay.getType(x, y) == type) {
+                    result.add(overlay.getRoom(x, y));
                 }
             }
         }
-        
-        return enemies;
+        return Collections.unmodifiableList(result);
+    }
+    
+    /**
+     * Counts the rooms of a type without scanning the grid. A loaded labyrinth has
+     * the counts in its file. A procedural labyrinth gives the number expected from
+     * its room ratios, as counting exactly would derive every cell.
+     * 
+     * @param type The room type
+     * @return The number of rooms, or Integer.MAX_VALUE if there are more
+     */
+    public int countRooms(RoomType type) {
+        if (overlay == null) {
+            return roomIndex.count(type);
+        }
+        return (int) Math.min(overlay.countTypes()[type.ordinal()], Integer.MAX_VALUE);
+    }
+    
+    /**
+     * Saves the labyrinth's room layout to a file that {@link #load(Path)} can map back in.
+     * Room contents aren't stored; they are derived from the seed again. The game's progress
+     * isn't stored either, so the file is the map as it was before anyone played it: rooms
+     * that have been visited, looted or cleared are fresh again when it is loaded.
+     * 
+     * @param path Where to write the file
+     * @throws IOException If the file cannot be written
+     */
+    public void save(Path path) throws IOException {
+        LabyrinthFile.write(this, path);
     }
     
     /**
@@ -288,11 +768,52 @@ public class Labyrinth {
         return height;
     }
     
+    /**
+     * Gets the grid of rooms.
+     * 
+     * @return The rooms indexed by [y][x], or null if rooms are created on demand
+     */
     public Room[][] getRooms() {
         return rooms;
     }
     
+    /**
+     * Gets the enemy registry. In a procedural labyrinth the enemies still to spawn
+     * are reserved from the expected monster room count, so the alive count is an estimate
+     * until every monster room has been entered.
+     * 
+     * @return The enemy registry
+     */
+    public EnemyRegistry getEnemyRegistry() {
+        return enemyRegistry;
+    }
+    
+    public boolean isProcedural() {
+        return procedural;
+    }
+    
+    public boolean isParallel() {
+        return parallel;
+    }
+    
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+    
+    /**
+     * Gets the number of visited rooms a procedural or loaded labyrinth is keeping.
+     * 
+     * @return The number of kept rooms, or 0 if every room is held in the grid
+     */
+    public int getKeptRoomCount() {
+        return overlay == null ? 0 : overlay.getVisitedCount();
+    }
+    
     public Position getExitPosition() {
         return exitPosition;
     }
+    
+    public long getSeed() {
+        return seed;
+    }
 }
@@ -0,0 +1,265 @@
+package game.model;
+
+import game.model.rooms.RoomType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Fixed-layout binary labyrinth file, opened through memory mapping so that even a huge
+ * labyrinth opens at once and its cells are paged in as they are read.
+ *
+ * <pre>
+ * header : "MLAB" version:i32 flags:i32 width:i32 height:i32 seed:i64
+ *          exitX:i32 exitY:i32 roomCounts:i64[6]
+ *          puzzleRatio:f64 treasureRatio:f64 monsterRatio:f64 trapRatio:f64
+ *          moves:i32 reserved                                      (128 bytes)
+ * cells  : one byte per cell in row-major order
+ * </pre>
+ *
+ * A cell byte holds the room type ordinal plus one in bits 0-2 (0 for a wall), the
+ * visited flag in bit 3 and open passages to the north, east, south and west in bits 4-7.
+ * Room contents are derived from the seed and cell index, so the file needs no content
+ * table. That also means a file can't hold rooms that have been played: a saved file is
+ * always the clean, unplayed map, and the visited flag is left clear. The flag is there
+ * for off-heap labyrinths, which keep their cell state in this same layout.
+ * Flags record how the labyrinth was generated, using the same bits as replay headers,
+ * and the difficulty settings it was generated with are kept too, so a loaded labyrinth
+ * plays, and replays, the same as the one that was saved.
+ */
+final class LabyrinthFile {
+    static final int MAGIC = 0x4D4C4142; // "MLAB"
+    static final int VERSION = 3;
+    static final int HEADER_SIZE = 128;
+    static final int FLAG_PROCEDURAL = 1;
+    static final int FLAG_PARALLEL = 2;
+
+    static final int TYPE_MASK = 0x07;
+    static final int VISITED = 0x08;
+    private static final int PASSAGE_NORTH = 0x10;
+    private static final int PASSAGE_EAST = 0x20;
+    private static final int PASSAGE_SOUTH = 0x40;
+    private static final int PASSAGE_WEST = 0x80;
+
+    private static final RoomType[] TYPES = RoomType.values();
+
+    private final int flags;
+    private final int width;
+    private final int height;
+    private final long seed;
+    private final Position exit;
+    private final long[] roomCounts;
+    private final Difficulty difficulty;
+    private final CellStore cells;
+
+    private LabyrinthFile(int flags, int width, int height, long seed, Position exit, long[] roomCounts,
+                          Difficulty difficulty, CellStore cells) {
+        this.flags = flags;
+        this.width = width;
+        this.height = height;
+        this.seed = seed;
+        this.exit = exit;
+        this.roomCounts = roomCounts;
+        this.difficulty = difficulty;
+        this.cells = cells;
+    }
+
+    /**
+     * Writes a labyrinth's layout to a file, one row at a time. What has happened in
+     * the labyrinth isn't written.
+     *
+     * @param labyrinth The labyrinth to write
+     * @param path      Where to write it
+     * @throws IOException If the file cannot be written
+     */
+    static void write(Labyrinth labyrinth, Path path) throws IOException {
+        int width = labyrinth.getWidth();
+        int height = labyrinth.getHeight();
+        long[] roomCounts = new long[TYPES.length];
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.position(HEADER_SIZE);
+
+            ByteBuffer row = ByteBuffer.allocate(width);
+            RoomType[] above = new RoomType[width];
+            RoomType[] current = rowTypes(labyrinth, 0, new RoomType[width]);
+            RoomType[] below = new RoomType[width];
+            for (int y = 0; y < height; y++) {
+                if (y + 1 < height) {
+                    rowTypes(labyrinth, y + 1, below);
+                } else {
+                    Arrays.fill(below, null);
+                }
+
+                row.clear();
+                for (int x = 0; x < width; x++) {
+                    RoomType type = current[x];
+                    int cell = 0;
+                    if (type != null) {
+                        roomCounts[type.ordinal()]++;
+                        cell = type.ordinal() + 1;
+                        if (y > 0 && above[x] != null) {
+                            cell |= PASSAGE_NORTH;
+                        }
+                        if (x + 1 < width && current[x + 1] != null) {
+                            cell |= PASSAGE_EAST;
+                        }
+                        if (below[x] != null) {
+                            cell |= PASSAGE_SOUTH;
+                        }
+                        if (x > 0 && current[x - 1] != null) {
+                            cell |= PASSAGE_WEST;
+                        }
+                    }
+                    row.put((byte) cell);
+                }
+                row.flip();
+                while (row.hasRemaining()) {
+                    channel.write(row);
+                }
+
+                // Rotate the row buffers
+                RoomType[] spare = above;
+                above = current;
+                current = below;
+                below = spare;
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            int flags = (labyrinth.isProcedural() ? FLAG_PROCEDURAL : 0) | (labyrinth.isParallel() ? FLAG_PARALLEL : 0);
+            header.putInt(MAGIC).putInt(VERSION).putInt(flags).putInt(width).putInt(height).putLong(labyrinth.getSeed());
+            header.putInt(labyrinth.getExitPosition().getX()).putInt(labyrinth.getExitPosition().getY());
+            for (long count : roomCounts) {
+                header.putLong(count);
+            }
+            Difficulty difficulty = labyrinth.getDifficulty();
+            header.putDouble(difficulty.getPuzzleRatio()).putDouble(difficulty.getTreasureRatio());
+            header.putDouble(difficulty.getMonsterRatio()).putDouble(difficulty.getTrapRatio());
+            header.putInt(difficulty.getMoveBudget());
+            header.position(HEADER_SIZE);
+            header.flip();
+            channel.position(0);
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+        }
+    }
+
+    private static RoomType[] rowTypes(Labyrinth labyrinth, int y, RoomType[] types) {
+        for (int x = 0; x < types.length; x++) {
+            types[x] = labyrinth.getRoomType(x, y);
+        }
+        return types;
+    }
+
+    /**
+     * Opens a labyrinth file and maps its cells read-only.
+     *
+     * @param path The file to open
+     * @return The opened file
+     * @throws IOException If the file cannot be read or is not a labyrinth file
+     */
+    static LabyrinthFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    throw new IOException("Truncated labyrinth header: " + path);
+                }
+            }
+            header.flip();
+
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a labyrinth file: " + path);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported labyrinth file version " + version);
+            }
+            int flags = header.getInt();
+            int width = header.getInt();
+            int height = header.getInt();
+            long seed = header.getLong();
+            Position exit = Position.of(header.getInt(), header.getInt());
+            long[] roomCounts = new long[TYPES.length];
+            for (int i = 0; i < roomCounts.length; i++) {
+                roomCounts[i] = header.getLong();
+            }
+            Difficulty difficulty;
+            try {
+                difficulty = new Difficulty(header.getDouble(), header.getDouble(), header.getDouble(),
+                        header.getDouble(), header.getInt());
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Invalid difficulty in labyrinth file: " + e.getMessage(), e);
+            }
+
+            long cells = (long) width * height;
+            if (width <= 0 || height <= 0 || channel.size() < HEADER_SIZE + cells) {
+                throw new IOException("Truncated labyrinth file: " + path);
+            }
+
+            CellStore store = CellStore.map(channel, FileChannel.MapMode.READ_ONLY, HEADER_SIZE, cells);
+            return new LabyrinthFile(flags, width, height, seed, exit, roomCounts, difficulty, store);
+        }
+    }
+
+    /**
+     * Reads a cell byte straight from the mapped file.
+     *
+     * @param cell The cell index y * width + x
+     * @return The cell byte, as an unsigned value
+     */
+    int cell(long cell) {
+        return cells.get(cell);
+    }
+
+    /**
+     * Gets the room type stored for a cell.
+     *
+     * @param cell The cell index
+     * @return The room type, or null for a wall
+     */
+    RoomType type(long cell) {
+        int type = cell(cell) & TYPE_MASK;
+        return type == 0 ? null : TYPES[type - 1];
+    }
+
+    // Getters
+
+    boolean isProcedural() {
+        return (flags & FLAG_PROCEDURAL) != 0;
+    }
+
+    boolean isParallel() {
+        return (flags & FLAG_PARALLEL) != 0;
+    }
+
+    int getWidth() {
+        return width;
+    }
+
+    int getHeight() {
+        return height;
+    }
+
+    long getSeed() {
+        return seed;
+    }
+
+    Position getExit() {
+        return exit;
+    }
+
+    long[] getRoomCounts() {
+        return roomCounts.clone();
+    }
+
+    Difficulty getDifficulty() {
+        return difficulty;
+    }
+}
@@ -0,0 +1,282 @@
+package game.model;
+
+import game.monitoring.Counter;
+import game.monitoring.Histogram;
+import game.monitoring.MetricsRegistry;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A warm pool of ready-to-play labyrinths for hosts that start many games, so a new game
+ * takes a labyrinth that already exists instead of generating one on the request path.
+ *
+ * Labyrinths are pooled per size class, i.e. per width and height, and each has a random
+ * seed. A background thread keeps every class filled up to its target size. Every
+ * {@link #ADAPT_INTERVAL_MILLIS} ms the target is recomputed from an exponentially weighted
+ * moving average of the class's game-start rate: it is the minimum plus the starts expected
+ * during one interval and one refill, capped at the maximum. Pooled labyrinths above a
+ * lowered target are dropped again, so an idle class shrinks back to the minimum.
+ *
+ * Takes that find the pool empty count as misses and generate on the calling thread.
+ * Hits, misses, the time each background refill takes and refills that failed are
+ * recorded in the metrics registry. A class whose refill failed, even by running out of
+ * memory, is left alone for one interval while the others are refilled.
+ */
+public class LabyrinthPool implements AutoCloseable {
+    public static final long ADAPT_INTERVAL_MILLIS = 1000;
+    private static final long ADAPT_INTERVAL_NANOS = ADAPT_INTERVAL_MILLIS * 1_000_000L;
+    // Weight of the latest interval in the moving averages
+    private static final double SMOOTHING = 0.3;
+
+    private final int minReady;
+    private final int maxReady;
+    private final Map<Long, SizeClass> classes;
+    private final Counter hits;
+    private final Counter misses;
+    private final Histogram refills;
+    private final Counter failures;
+    private final Object signal = new Object();
+    private final Thread refiller;
+    private boolean wakeRequested;
+    private volatile boolean closed;
+
+    /**
+     * Creates a pool recording into the global metrics registry, and starts its refill thread.
+     *
+     * @param minReady The number of labyrinths each size class keeps even when idle
+     * @param maxReady The most labyrinths a size class keeps however busy it is
+     */
+    public LabyrinthPool(int minReady, int maxReady) {
+        this(minReady, maxReady, MetricsRegistry.global());
+    }
+
+    /**
+     * Creates a pool and starts its refill thread.
+     *
+     * @param minReady The number of labyrinths each size class keeps even when idle
+     * @param maxReady The most labyrinths a size class keeps however busy it is
+     * @param metrics  The registry to record hits, misses, refill times and failures into
+     */
+    public LabyrinthPool(int minReady, int maxReady, MetricsRegistry metrics) {
+        if (minReady < 0 || maxReady < Math.max(minReady, 1)) {
+            throw new IllegalArgumentException("Invalid pool size range " + minReady + "-" + maxReady);
+        }
+
+        this.minReady = minReady;
+        this.maxReady = maxReady;
+        this.classes = new ConcurrentHashMap<>();
+        this.hits = metrics.counter(MetricsRegistry.POOL_HITS);
+        this.misses = metrics.counter(MetricsRegistry.POOL_MISSES);
+        this.refills = metrics.histogram(MetricsRegistry.POOL_REFILL);
+        this.failures = metrics.counter(MetricsRegistry.POOL_FAILURES);
+        this.refiller = new Thread(this::refill, "labyrinth-pool");
+        refiller.setDaemon(true);
+        // Games being played come first
+        refiller.setPriority(Thread.MIN_PRIORITY);
+        refiller.start();
+    }
+
+    /**
+     * Starts pooling labyrinths of a size ahead of the first game that needs one.
+     * Sizes are also added on their first {@link #take(int, int)}.
+     *
+     * @param width  Width of the labyrinths
+     * @param height Height of the labyrinths
+     */
+    public void addSizeClass(int width, int height) {
+        sizeClass(width, height);
+        wakeRefiller();
+    }
+
+    /**
+     * Takes a labyrinth for a new game. The labyrinth is removed from the pool, and is
+     * generated on the calling thread if the pool has none of this size ready.
+     *
+     * @param width  Width of the labyrinth
+     * @param height Height of the labyrinth
+     * @return A labyrinth nobody else has been given
+     */
+    public Labyrinth take(int width, int height) {
+        SizeClass sizeClass = sizeClass(width, height);
+        sizeClass.starts.increment();
+
+        Labyrinth labyrinth = sizeClass.ready.poll();
+        if (labyrinth != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            labyrinth = generate(width, height);
+        }
+        wakeRefiller();
+        return labyrinth;
+    }
+
+    /**
+     * Stops the refill thread and drops the pooled labyrinths.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        refiller.interrupt();
+        for (SizeClass sizeClass : classes.values()) {
+            sizeClass.ready.clear();
+        }
+    }
+
+    private SizeClass sizeClass(int width, int height) {
+        return classes.computeIfAbsent(key(width, height), k -> new SizeClass(width, height, minReady));
+    }
+
+    private static long key(int width, int height) {
+        return ((long) width << 32) | (height & 0xFFFFFFFFL);
+    }
+
+    private void wakeRefiller() {
+        synchronized (signal) {
+            wakeRequested = true;
+            signal.notify();
+        }
+    }
+
+    /**
+     * The refill thread's loop: generates one labyrinth at a time for the class furthest
+     * below its target, and adapts the targets once per interval.
+     */
+    private void refill() {
+        long lastAdapt = System.nanoTime();
+        try {
+            while (!closed) {
+                long now = System.nanoTime();
+                long sinceAdapt = now - lastAdapt;
+                if (sinceAdapt >= ADAPT_INTERVAL_NANOS) {
+                    for (SizeClass sizeClass : classes.values()) {
+                        adapt(sizeClass, sinceAdapt / 1e9);
+                    }
+                    lastAdapt = now;
+                }
+
+                SizeClass neediest = null;
+                int largestDeficit = 0;
+                for (SizeClass sizeClass : classes.values()) {
+                    int deficit = sizeClass.target - sizeClass.ready.size();
+                    if (deficit > largestDeficit && now - sizeClass.failedAt >= ADAPT_INTERVAL_NANOS) {
+                        neediest = sizeClass;
+                        largestDeficit = deficit;
+                    }
+                }
+
+                if (neediest != null) {
+                    try {
+                        long start = System.nanoTime();
+                        Labyrinth labyrinth = generate(neediest.width, neediest.height);
+                        long elapsed = System.nanoTime() - start;
+                        refills.record(elapsed);
+                        neediest.refillNanos = neediest.refillNanos == 0 ? elapsed
+                                : SMOOTHING * elapsed + (1 - SMOOTHING) * neediest.refillNanos;
+                        neediest.ready.offer(labyrinth);
+                    } catch (RuntimeException | OutOfMemoryError e) {
+                        // Takes still generate on their own thread. Running out of memory for a
+                        // large class frees the half-built labyrinth, so the thread carries on
+                        failures.increment();
+                        neediest.failedAt = System.nanoTime();
+                    }
+                    continue;
+                }
+
+                // Everything is full or failing; sleep until a take or the next adaptation
+                long waitMillis = Math.max(1, ADAPT_INTERVAL_MILLIS - (System.nanoTime() - lastAdapt) / 1_000_000L);
+                synchronized (signal) {
+                    if (!wakeRequested) {
+                        signal.wait(waitMillis);
+                    }
+                    wakeRequested = false;
+                }
+            }
+        } catch (InterruptedException e) {
+            // Closed
+        }
+    }
+
+    /**
+     * Updates a class's start rate with the starts seen since the last adaptation and
+     * derives its new target, dropping labyrinths above it.
+     */
+    private void adapt(SizeClass sizeClass, double elapsedSeconds) {
+        double latestRate = sizeClass.starts.sumThenReset() / elapsedSeconds;
+        sizeClass.startRate = SMOOTHING * latestRate + (1 - SMOOTHING) * sizeClass.startRate;
+
+        double leadSeconds = ADAPT_INTERVAL_MILLIS / 1000.0 + sizeClass.refillNanos / 1e9;
+        long wanted = minReady + (long) Math.ceil(sizeClass.startRate * leadSeconds);
+        sizeClass.target = (int) Math.min(maxReady, wanted);
+
+        while (sizeClass.ready.size() > sizeClass.target) {
+            sizeClass.ready.poll();
+        }
+    }
+
+    private static Labyrinth generate(int width, int height) {
+        return new Labyrinth(width, height);
+    }
+
+    /**
+     * Gets the number of labyrinths of a size that are ready to be taken.
+     *
+     * @param width  Width of the labyrinths
+     * @param height Height of the labyrinths
+     * @return The number of ready labyrinths, 0 if the size isn't pooled
+     */
+    public int getReadyCount(int width, int height) {
+        SizeClass sizeClass = classes.get(key(width, height));
+        return sizeClass == null ? 0 : sizeClass.ready.size();
+    }
+
+    /**
+     * Gets the number of labyrinths of a size the pool currently aims to keep ready.
+     *
+     * @param width  Width of the labyrinths
+     * @param height Height of the labyrinths
+     * @return The target size, 0 if the size isn't pooled
+     */
+    public int getTargetSize(int width, int height) {
+        SizeClass sizeClass = classes.get(key(width, height));
+        return sizeClass == null ? 0 : sizeClass.target;
+    }
+
+    /**
+     * Gets the smoothed number of games started per second with labyrinths of a size.
+     *
+     * @param width  Width of the labyrinths
+     * @param height Height of the labyrinths
+     * @return The start rate, 0 if the size isn't pooled
+     */
+    public double getStartRate(int width, int height) {
+        SizeClass sizeClass = classes.get(key(width, height));
+        return sizeClass == null ? 0 : sizeClass.startRate;
+    }
+
+    /**
+     * The pooled labyrinths of one size and the statistics its target is derived from.
+     * The statistics are only written by the refill thread.
+     */
+    private static final class SizeClass {
+        final int width;
+        final int height;
+        final BlockingQueue<Labyrinth> ready = new LinkedBlockingQueue<>();
+        final LongAdder starts = new LongAdder();
+        volatile int target;
+        volatile double startRate;
+        double refillNanos;
+        long failedAt;
+
+        SizeClass(int width, int height, int target) {
+            this.width = width;
+            this.height = height;
+            this.target = target;
+            this.failedAt = System.nanoTime() - ADAPT_INTERVAL_NANOS;
+        }
+    }
+}
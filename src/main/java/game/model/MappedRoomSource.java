@@ -0,0 +1,30 @@
+package game.model;
+
+import game.model.entities.EnemyRegistry;
+import game.model.rooms.RoomFactory;
+import game.model.rooms.RoomType;
+
+/**
+ * Room source reading cell types straight from a memory-mapped labyrinth file.
+ * A saved file has no visited rooms, so every room starts fresh. Rooms visited since
+ * the file was opened are kept in the overlay like any other on-demand source; the
+ * file itself is never written.
+ */
+final class MappedRoomSource extends OverlayRoomSource {
+    private final LabyrinthFile file;
+
+    MappedRoomSource(LabyrinthFile file, RoomFactory roomFactory, EnemyRegistry enemyRegistry) {
+        super(file.getWidth(), file.getHeight(), roomFactory, enemyRegistry);
+        this.file = file;
+    }
+
+    @Override
+    public RoomType getType(int x, int y) {
+        return file.type((long) y * width + x);
+    }
+
+    @Override
+    long[] countTypes() {
+        return file.getRoomCounts();
+    }
+}
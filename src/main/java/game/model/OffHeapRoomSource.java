@@ -0,0 +1,42 @@
+package game.model;
+
+import game.model.entities.EnemyRegistry;
+import game.model.rooms.RoomFactory;
+import game.model.rooms.RoomType;
+
+/**
+ * Procedural room source that records the visited cells in a {@link CellStore}, using
+ * the cell byte layout of {@link LabyrinthFile}. A visited cell's byte holds its room
+ * type and the visited flag; every other cell stays zero and has its type derived from
+ * the seed, so looking at cells never writes to the store and only pages the player
+ * has been in are dirtied. Only the rooms the player has visited live on the heap.
+ */
+final class OffHeapRoomSource extends ProceduralRoomSource {
+    private static final RoomType[] TYPES = RoomType.values();
+
+    private final CellStore cells;
+
+    OffHeapRoomSource(long seed, int width, int height, Difficulty difficulty, CellStore cells,
+                      RoomFactory roomFactory, EnemyRegistry enemyRegistry) {
+        super(seed, width, height, difficulty, roomFactory, enemyRegistry);
+        this.cells = cells;
+    }
+
+    @Override
+    public RoomType getType(int x, int y) {
+        long cell = (long) y * width + x;
+        int type = cells.get(cell) & LabyrinthFile.TYPE_MASK;
+        return type == 0 ? super.getType(x, y) : TYPES[type - 1];
+    }
+
+    @Override
+    public boolean isVisited(int x, int y) {
+        return (cells.get((long) y * width + x) & LabyrinthFile.VISITED) != 0;
+    }
+
+    @Override
+    void retained(long cell) {
+        RoomType type = super.getType((int) (cell % width), (int) (cell / width));
+        cells.set(cell, (type.ordinal() + 1) | LabyrinthFile.VISITED);
+    }
+}
@@ -0,0 +1,102 @@
+package game.model;
+
+import game.model.entities.EnemyRegistry;
+import game.model.rooms.MonsterRoom;
+import game.model.rooms.Room;
+import game.model.rooms.RoomFactory;
+import game.model.rooms.RoomType;
+
+/**
+ * Base for room sources that don't hold a room per cell. A room is created from its
+ * type and per-cell content seed each time it is looked up, and kept from the moment
+ * the player first visits it, since only then can its state change. Kept rooms live
+ * in a sparse overlay keyed by cell index. Subclasses decide where cell types come from.
+ */
+abstract class OverlayRoomSource implements RoomSource {
+    protected final int width;
+    protected final int height;
+    private final RoomFactory roomFactory;
+    private final EnemyRegistry enemyRegistry;
+    private final CellMap<Room> visited;
+
+    // The last unvisited room handed out, so repeated lookups of one cell return the same room
+    private long lastCell = -1;
+    private Room lastRoom;
+
+    OverlayRoomSource(int width, int height, RoomFactory roomFactory, EnemyRegistry enemyRegistry) {
+        this.width = width;
+        this.height = height;
+        this.roomFactory = roomFactory;
+        this.enemyRegistry = enemyRegistry;
+        this.visited = new CellMap<>();
+    }
+
+    @Override
+    public synchronized Room getRoom(int x, int y) {
+        long cell = (long) y * width + x;
+        Room room = visited.get(cell);
+        if (room != null) {
+            return room;
+        }
+        if (cell == lastCell) {
+            return lastRoom;
+        }
+
+        RoomType type = getType(x, y);
+        if (type == null) {
+            return null;
+        }
+        room = roomFactory.createRoom(type, Position.of(x, y));
+        room.setVisitListener(this::retain);
+        lastCell = cell;
+        lastRoom = room;
+        return room;
+    }
+
+    @Override
+    public synchronized boolean isVisited(int x, int y) {
+        return visited.containsKey((long) y * width + x);
+    }
+
+    /**
+     * Gets the number of rooms of each type without looking at the cells, which would
+     * touch the whole grid.
+     *
+     * @return The counts, indexed by room type ordinal
+     */
+    abstract long[] countTypes();
+
+    /**
+     * Gets the number of rooms kept in the overlay.
+     *
+     * @return The number of visited rooms
+     */
+    synchronized int getVisitedCount() {
+        return visited.size();
+    }
+
+    /**
+     * Called when the room at a cell is first kept, for sources that record visits themselves.
+     *
+     * @param cell The cell index
+     */
+    void retained(long cell) {
+    }
+
+    /**
+     * Keeps a room from now on, since visiting it may start changing its state.
+     */
+    private synchronized void retain(Room room) {
+        long cell = (long) room.getPosition().getY() * width + room.getPosition().getX();
+        visited.put(cell, room);
+        retained(cell);
+        room.setVisitListener(null);
+        if (room instanceof MonsterRoom) {
+            ((MonsterRoom) room).setEnemyRegistry(enemyRegistry);
+        }
+        if (cell == lastCell) {
+            lastCell = -1;
+            lastRoom = null;
+        }
+    }
+}
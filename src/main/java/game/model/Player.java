@@ -2,27 +2,26 @@ package game.model;
 
 import game.model.combat.AggressiveStrategy;
 import game.model.combat.CombatStrategy;
+import game.model.content.ArtifactTemplate;
 import game.model.puzzle.PuzzleObserver;
 import game.model.puzzle.PuzzleSubject;
-
-import java.util.ArrayList;
-import java.util.List;
+import game.model.stats.Stat;
+import game.model.stats.StatModifier;
+import game.model.stats.Stats;
 
 /**
  * Represents the player character in the game.
  */
 public class Player implements PuzzleObserver {
     private String name;
-    private int maxHealth;
     private int health;
-    private int attack;
-    private int defense;
+    private Stats stats;
     private int level;
     private int experience;
     private Position position;
-    private List<Artifact> inventory;
+    private Inventory inventory;
     private CombatStrategy combatStrategy;
-    private int remainingMoves = 30;
+    private int remainingMoves;
     private boolean isTrapped = false;
     private String trapRiddle;
     private String trapAnswer;
@@ -30,7 +29,7 @@ public class Player implements PuzzleObserver {
 
 
     /**
-     * Creates a new player.
+     * Creates a new player with the current difficulty's move budget.
      * 
      * @param name      The player's name
      * @param health    Starting health
@@ -38,17 +37,29 @@ public class Player implements PuzzleObserver {
      * @param defense   Base defense value
      */
     public Player(String name, int health, int attack, int defense) {
+        this(name, health, attack, defense, Difficulty.get().getMoveBudget());
+    }
+
+    /**
+     * Creates a new player.
+     * 
+     * @param name       The player's name
+     * @param health     Starting health
+     * @param attack     Base attack value
+     * @param defense    Base defense value
+     * @param moveBudget The number of moves the player can make
+     */
+    public Player(String name, int health, int attack, int defense, int moveBudget) {
 
         this.name = name;
-        this.maxHealth = health;
         this.health = health;
-        this.attack = attack;
-        this.defense = defense;
+        this.stats = new Stats(health, attack, defense);
         this.level = 1;
         this.experience = 0;
-        this.position = new Position(0, 0); // Start at (0,0)
-        this.inventory = new ArrayList<>();
-        this.combatStrategy = new AggressiveStrategy(); // Default strategy
+        this.position = Position.of(0, 0); // Start at (0,0)
+        this.inventory = new Inventory();
+        this.remainingMoves = moveBudget;
+        takeStance(new AggressiveStrategy()); // Default strategy
     }
     public void setTrapPuzzle(String riddle, String answer) {
         this.trapRiddle = riddle;
@@ -73,12 +84,6 @@ public class Player implements PuzzleObserver {
         return remainingMoves;
     }
 
-    public void decrementMoves() {
-        if (remainingMoves > 0) {
-            remainingMoves--;
-        }
-    }
-
     public boolean hasMovesLeft() {
         return remainingMoves > 0;
     }
@@ -92,24 +97,18 @@ public class Player implements PuzzleObserver {
     }
 
     /**
-     * Moves the player in the given direction.
+     * Moves the player in the given direction. This is a turn: it uses up one of the
+     * remaining moves and advances timed stat modifiers, removing the ones that run out.
      * 
      * @param direction The direction to move
      */
     public void move(Direction direction) {
-        switch (direction) {
-            case NORTH:
-                position.setY(position.getY() - 1);
-                break;
-            case SOUTH:
-                position.setY(position.getY() + 1);
-                break;
-            case EAST:
-                position.setX(position.getX() + 1);
-                break;
-            case WEST:
-                position.setX(position.getX() - 1);
-                break;
+        position = position.adjacent(direction);
+        if (remainingMoves > 0) {
+            remainingMoves--;
+        }
+        if (stats.tick()) {
+            health = Math.min(health, getMaxHealth());
         }
     }
     
@@ -138,14 +137,14 @@ public class Player implements PuzzleObserver {
      * @return true if player is still alive, false if dead
      */
     public boolean takeDamage(int damage) {
-        int actualDamage = Math.max(1, damage - defense / 2); // Defense reduces damage
+        int actualDamage = Math.max(1, damage - getDefense() / 2); // Defense reduces damage
         health -= actualDamage;
         
-        System.out.println(name + " takes " + actualDamage + " damage!");
+        GameLog.print(name + " takes " + actualDamage + " damage!");
         
         if (health <= 0) {
             health = 0;
-            System.out.println(name + " has been defeated!");
+            GameLog.print(name + " has been defeated!");
             return false;
         }
         
@@ -158,8 +157,8 @@ public class Player implements PuzzleObserver {
      * @param amount Amount to heal
      */
     public void heal(int amount) {
-        health = Math.min(maxHealth, health + amount);
-        System.out.println(name + " heals for " + amount + " health!");
+        health = Math.min(getMaxHealth(), health + amount);
+        GameLog.print(name + " heals for " + amount + " health!");
     }
     
     /**
@@ -169,7 +168,7 @@ public class Player implements PuzzleObserver {
      */
     public void gainExperience(int exp) {
         experience += exp;
-        System.out.println(name + " gains " + exp + " experience!");
+        GameLog.print(name + " gains " + exp + " experience!");
         
         // Check for level up (simple formula: 100 * current level)
         if (experience >= level * 100) {
@@ -182,15 +181,15 @@ public class Player implements PuzzleObserver {
      */
     private void levelUp() {
         level++;
-        maxHealth += 10;
-        health = maxHealth; // Fully heal on level up
-        attack += 2;
-        defense += 1;
+        int gained = level - 1;
+        stats.replace(new StatModifier(StatModifier.Source.LEVEL, null,
+                gained * 10, gained * 2, gained, StatModifier.PERMANENT));
+        health = getMaxHealth(); // Fully heal on level up
         
-        System.out.println(name + " leveled up to level " + level + "!");
-        System.out.println("Health increased to " + maxHealth);
-        System.out.println("Attack increased to " + attack);
-        System.out.println("Defense increased to " + defense);
+        GameLog.print(name + " leveled up to level " + level + "!");
+        GameLog.print("Health increased to " + getMaxHealth());
+        GameLog.print("Attack increased to " + getAttack());
+        GameLog.print("Defense increased to " + getDefense());
     }
     
     /**
@@ -200,13 +199,34 @@ public class Player implements PuzzleObserver {
      */
     public void addArtifact(Artifact artifact) {
         inventory.add(artifact);
-        System.out.println(name + " obtained: " + artifact.getName());
+        GameLog.print(name + " obtained: " + artifact.getName());
         
-        // Apply artifact effects
-        maxHealth += artifact.getHealthBonus();
-        health += artifact.getHealthBonus();
-        attack += artifact.getAttackBonus();
-        defense += artifact.getDefenseBonus();
+        // Apply artifact effects; temporary ones wear off after their duration
+        if (artifact.getHealthBonus() != 0 || artifact.getAttackBonus() != 0 || artifact.getDefenseBonus() != 0) {
+            ArtifactTemplate template = artifact.getTemplate();
+            if (template.isTemporary()) {
+                health += artifact.getHealthBonus();
+                applyModifier(new StatModifier(StatModifier.Source.EFFECT, template,
+                        artifact.getHealthBonus(), artifact.getAttackBonus(), artifact.getDefenseBonus(),
+                        template.getDuration()));
+                GameLog.print("The effect lasts " + template.getDuration() + " moves");
+            } else {
+                stats.add(new StatModifier(StatModifier.Source.ARTIFACT, template,
+                        artifact.getHealthBonus(), artifact.getAttackBonus(), artifact.getDefenseBonus(),
+                        StatModifier.PERMANENT));
+                health += artifact.getHealthBonus();
+            }
+        }
+    }
+    
+    /**
+     * Applies a stat modifier, such as a temporary effect lasting a number of moves.
+     * 
+     * @param modifier The modifier to apply
+     */
+    public void applyModifier(StatModifier modifier) {
+        stats.add(modifier);
+        health = Math.min(health, getMaxHealth());
     }
     
     /**
@@ -216,8 +236,7 @@ public class Player implements PuzzleObserver {
      * @return true if player has the artifact, false otherwise
      */
     public boolean hasArtifact(String artifactName) {
-        return inventory.stream()
-                .anyMatch(a -> a.getName().equalsIgnoreCase(artifactName));
+        return inventory.contains(artifactName);
     }
     
     /**
@@ -226,13 +245,24 @@ public class Player implements PuzzleObserver {
      * @param strategy The strategy to use
      */
     public void setCombatStrategy(CombatStrategy strategy) {
+        takeStance(strategy);
+        GameLog.print(name + " changes combat style to " + strategy.getClass().getSimpleName());
+    }
+    
+    /**
+     * Switches to a combat strategy, replacing the old strategy's stance with the new one's.
+     */
+    private void takeStance(CombatStrategy strategy) {
         this.combatStrategy = strategy;
-        System.out.println(name + " changes combat style to " + strategy.getClass().getSimpleName());
+        stats.removeSource(StatModifier.Source.STANCE);
+        if (strategy.getStance() != null) {
+            stats.add(strategy.getStance());
+        }
     }
     
     @Override
     public void update(PuzzleSubject subject, String message) {
-        System.out.println("[Notification] " + message);
+        GameLog.print("[Notification] " + message);
     }
     
     // Getters and setters
@@ -246,21 +276,29 @@ public class Player implements PuzzleObserver {
     }
 
     public int getMaxHealth() {
-        return maxHealth;
+        return stats.get(Stat.MAX_HEALTH);
     }
 
     public int getAttack() {
-        return attack;
+        return stats.get(Stat.ATTACK);
     }
 
     public int getDefense() {
-        return defense;
+        return stats.get(Stat.DEFENSE);
+    }
+
+    public Stats getStats() {
+        return stats;
     }
 
     public int getLevel() {
         return level;
     }
 
+    public int getExperience() {
+        return experience;
+    }
+
     public Position getPosition() {
         return position;
     }
@@ -269,7 +307,7 @@ public class Player implements PuzzleObserver {
         this.position = position;
     }
 
-    public List<Artifact> getInventory() {
+    public Inventory getInventory() {
         return inventory;
     }
     
@@ -279,7 +317,7 @@ public class Player implements PuzzleObserver {
     
     @Override
     public String toString() {
-        return name + " (Lvl " + level + ") HP: " + health + "/" + maxHealth + 
-               " ATK: " + attack + " DEF: " + defense;
+        return name + " (Lvl " + level + ") HP: " + health + "/" + getMaxHealth() + 
+               " ATK: " + getAttack() + " DEF: " + getDefense();
     }
 }
@@ -1,33 +1,58 @@
 package game.model;
 
-import java.util.Objects;
-
 /**
- * Represents a position in the labyrinth.
+ * Represents an immutable position in the labyrinth.
+ * Positions are values: use {@link #of(int, int)}, which hands out shared
+ * instances for small non-negative coordinates instead of allocating.
  */
-public class Position {
-    private int x;
-    private int y;
+public final class Position {
+    // Coordinates in [0, CACHE_SIZE) are served from a shared table
+    private static final int CACHE_SIZE = 128;
+    private static final Position[] CACHE = new Position[CACHE_SIZE * CACHE_SIZE];
+    
+    private final int x;
+    private final int y;
     
     /**
-     * Creates a new position with the given coordinates.
-     * 
-     * @param x The x-coordinate
-     * @param y The y-coordinate
+     * Visitor for the cells adjacent to a position.
      */
-    public Position(int x, int y) {
+    @FunctionalInterface
+    public interface NeighborVisitor {
+        /**
+         * Called for one adjacent cell.
+         * 
+         * @param direction The direction of the cell
+         * @param x         The cell's x-coordinate
+         * @param y         The cell's y-coordinate
+         */
+        void visit(Direction direction, int x, int y);
+    }
+    
+    private Position(int x, int y) {
         this.x = x;
         this.y = y;
     }
     
     /**
-     * Creates a copy of the given position.
+     * Gets the position with the given coordinates.
      * 
-     * @param other The position to copy
+     * @param x The x-coordinate
+     * @param y The y-coordinate
+     * @return The position
      */
-    public Position(Position other) {
-        this.x = other.x;
-        this.y = other.y;
+    public static Position of(int x, int y) {
+        if ((x | y) < 0 || x >= CACHE_SIZE || y >= CACHE_SIZE) {
+            return new Position(x, y);
+        }
+        
+        // Racing threads may both create an instance; either one is equal and safely published
+        int index = y * CACHE_SIZE + x;
+        Position cached = CACHE[index];
+        if (cached == null) {
+            cached = new Position(x, y);
+            CACHE[index] = cached;
+        }
+        return cached;
     }
     
     /**
@@ -40,51 +65,47 @@ public class Position {
     }
     
     /**
-     * Sets the x-coordinate.
+     * Gets the y-coordinate.
      * 
-     * @param x The new x-coordinate
+     * @return The y-coordinate
      */
-    public void setX(int x) {
-        this.x = x;
+    public int getY() {
+        return y;
     }
     
     /**
-     * Gets the y-coordinate.
+     * Gets the position adjacent to this one in the given direction.
      * 
-     * @return The y-coordinate
+     * @param direction The direction
+     * @return The adjacent position
      */
-    public int getY() {
-        return y;
+    public Position adjacent(Direction direction) {
+        return of(x + direction.getDx(), y + direction.getDy());
     }
     
     /**
-     * Sets the y-coordinate.
+     * Visits the four adjacent cells in the order north, east, south, west,
+     * without allocating. Cells outside the labyrinth are visited too.
      * 
-     * @param y The new y-coordinate
+     * @param visitor The visitor
      */
-    public void setY(int y) {
-        this.y = y;
+    public void forEachNeighbor(NeighborVisitor visitor) {
+        forEachNeighbor(x, y, visitor);
     }
     
     /**
-     * Gets the position adjacent to this one in the given direction.
+     * Visits the four cells adjacent to the given coordinates in the order
+     * north, east, south, west, without allocating.
      * 
-     * @param direction The direction
-     * @return The adjacent position
+     * @param x       The x-coordinate
+     * @param y       The y-coordinate
+     * @param visitor The visitor
      */
-    public Position adjacent(Direction direction) {
-        switch (direction) {
-            case NORTH:
-                return new Position(x, y - 1);
-            case SOUTH:
-                return new Position(x, y + 1);
-            case EAST:
-                return new Position(x + 1, y);
-            case WEST:
-                return new Position(x - 1, y);
-            default:
-                return new Position(this);
-        }
+    public static void forEachNeighbor(int x, int y, NeighborVisitor visitor) {
+        visitor.visit(Direction.NORTH, x, y - 1);
+        visitor.visit(Direction.EAST, x + 1, y);
+        visitor.visit(Direction.SOUTH, x, y + 1);
+        visitor.visit(Direction.WEST, x - 1, y);
     }
     
     /**
@@ -100,14 +121,15 @@ public class Position {
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+        if (!(o instanceof Position)) return false;
         Position position = (Position) o;
         return x == position.x && y == position.y;
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(x, y);
+        // Unique for coordinates that fit in 16 bits, which covers any labyrinth that fits in memory
+        return (x << 16) ^ y;
     }
     
     @Override
@@ -0,0 +1,77 @@
+package game.model;
+
+import game.model.entities.EnemyRegistry;
+import game.model.rooms.RoomFactory;
+import game.model.rooms.RoomType;
+
+/**
+ * Room source that stores no rooms up front. A cell's room type is a hash of the
+ * world seed and the cell index, so nothing but the visited rooms is kept.
+ *
+ * Rooms come in the same proportions as in a generated grid. The entry at (0,0) is
+ * always a regular room and the exit is in the far corner.
+ */
+class ProceduralRoomSource extends OverlayRoomSource {
+    private static final long TYPE_SALT = 0x7F4A7C15F39CC060L;
+
+    private final long seed;
+
+    // Cumulative shares of each special room type, matching Labyrinth.assignRoomTypes
+    private final double puzzleShare;
+    private final double treasureShare;
+    private final double monsterShare;
+    private final double trapShare;
+
+    ProceduralRoomSource(long seed, int width, int height, Difficulty difficulty, RoomFactory roomFactory,
+                         EnemyRegistry enemyRegistry) {
+        super(width, height, roomFactory, enemyRegistry);
+        this.seed = seed;
+        this.puzzleShare = 1.0 / difficulty.getPuzzleRatio();
+        this.treasureShare = puzzleShare + 1.0 / difficulty.getTreasureRatio();
+        this.monsterShare = treasureShare + 1.0 / difficulty.getMonsterRatio();
+        this.trapShare = monsterShare + 1.0 / difficulty.getTrapRatio();
+    }
+
+    @Override
+    public RoomType getType(int x, int y) {
+        if (x == width - 1 && y == height - 1) {
+            return RoomType.EXIT;
+        }
+        if (x == 0 && y == 0) {
+            return RoomType.REGULAR;
+        }
+
+        double roll = (GameRandom.mix(seed ^ TYPE_SALT, (long) y * width + x) >>> 11) * 0x1.0p-53;
+        if (roll < puzzleShare) {
+            return RoomType.PUZZLE;
+        } else if (roll < treasureShare) {
+            return RoomType.TREASURE;
+        } else if (roll < monsterShare) {
+            return RoomType.MONSTER;
+        } else if (roll < trapShare) {
+            return RoomType.TRAP;
+        }
+        return RoomType.REGULAR;
+    }
+
+    /**
+     * Gets the expected number of rooms of each type from the shares. Every cell but the
+     * entry and the exit rolls its type, so the actual counts differ by a fraction of a
+     * percent on all but the smallest labyrinths.
+     */
+    @Override
+    long[] countTypes() {
+        long cells = (long) width * height;
+        long rolled = Math.max(0, cells - 2);
+        long[] counts = new long[RoomType.values().length];
+        counts[RoomType.PUZZLE.ordinal()] = Math.round(rolled * puzzleShare);
+        counts[RoomType.TREASURE.ordinal()] = Math.round(rolled * (treasureShare - puzzleShare));
+        counts[RoomType.MONSTER.ordinal()] = Math.round(rolled * (monsterShare - treasureShare));
+        counts[RoomType.TRAP.ordinal()] = Math.round(rolled * (trapShare - monsterShare));
+        counts[RoomType.EXIT.ordinal()] = 1;
+        counts[RoomType.REGULAR.ordinal()] = cells - 1 - counts[RoomType.PUZZLE.ordinal()]
+                - counts[RoomType.TREASURE.ordinal()] - counts[RoomType.MONSTER.ordinal()]
+                - counts[RoomType.TRAP.ordinal()];
+        return counts;
+    }
+}
@@ -0,0 +1,37 @@
+package game.model;
+
+import game.model.rooms.Room;
+import game.model.rooms.RoomType;
+
+/**
+ * Where a labyrinth gets its rooms from. Coordinates passed in are always inside the labyrinth.
+ */
+interface RoomSource {
+
+    /**
+     * Gets the room at a cell.
+     *
+     * @param x The x-coordinate
+     * @param y The y-coordinate
+     * @return The room, or null if the cell is a wall
+     */
+    Room getRoom(int x, int y);
+
+    /**
+     * Gets the type of the room at a cell without creating the room.
+     *
+     * @param x The x-coordinate
+     * @param y The y-coordinate
+     * @return The room type, or null if the cell is a wall
+     */
+    RoomType getType(int x, int y);
+
+    /**
+     * Checks if the room at a cell has been visited, without creating the room.
+     *
+     * @param x The x-coordinate
+     * @param y The y-coordinate
+     * @return true if visited, false otherwise
+     */
+    boolean isVisited(int x, int y);
+}
@@ -0,0 +1,89 @@
+package game.model;
+
+import game.model.rooms.Room;
+import game.model.rooms.RoomType;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Index of the cells holding each room type, so the labyrinth can list and count
+ * rooms of a type without scanning the grid. Cells are stored by their index
+ * y * width + x, in row-major order within each type.
+ */
+final class RoomTypeIndex {
+    private static final RoomType[] TYPES = RoomType.values();
+
+    private final Labyrinth labyrinth;
+    private final int[][] cells;
+
+    /**
+     * Builds the index from the labyrinth's current rooms in a single pass.
+     *
+     * @param labyrinth The labyrinth to index
+     */
+    RoomTypeIndex(Labyrinth labyrinth) {
+        this.labyrinth = labyrinth;
+        int width = labyrinth.getWidth();
+        int height = labyrinth.getHeight();
+
+        int[] counts = new int[TYPES.length];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                RoomType type = labyrinth.getRoomType(x, y);
+                if (type != null) {
+                    counts[type.ordinal()]++;
+                }
+            }
+        }
+
+        this.cells = new int[TYPES.length][];
+        for (RoomType type : TYPES) {
+            cells[type.ordinal()] = new int[counts[type.ordinal()]];
+        }
+
+        int[] filled = new int[TYPES.length];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                RoomType type = labyrinth.getRoomType(x, y);
+                if (type != null) {
+                    cells[type.ordinal()][filled[type.ordinal()]++] = y * width + x;
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts the rooms of a type.
+     *
+     * @param type The room type
+     * @return The number of rooms
+     */
+    int count(RoomType type) {
+        return cells[type.ordinal()].length;
+    }
+
+    /**
+     * Gets a read-only view of the rooms of a type. Rooms are looked up
+     * as the list is read, so the view costs nothing to create.
+     *
+     * @param type The room type
+     * @return The rooms of that type
+     */
+    List<Room> rooms(RoomType type) {
+        int[] typeCells = cells[type.ordinal()];
+        int width = labyrinth.getWidth();
+        return new AbstractList<Room>() {
+            @Override
+            public Room get(int index) {
+                int cell = typeCells[index];
+                return labyrinth.getRoomAt(cell % width, cell / width);
+            }
+
+            @Override
+            public int size() {
+                return typeCells.length;
+            }
+        };
+    }
+}
@@ -1,7 +1,9 @@
 package game.model.combat;
 
+import game.model.GameRandom;
 import game.model.Player;
 import game.model.entities.Entity;
+import game.model.stats.StatModifier;
 
 import java.util.Random;
 
@@ -10,22 +12,30 @@ import java.util.Random;
  * Part of the Strategy pattern implementation.
  */
 public class AggressiveStrategy implements CombatStrategy {
-    private Random random = new Random();
+    private static final int ATTACK_BONUS_PERCENT = 50;
+    private static final StatModifier STANCE = StatModifier.percent(StatModifier.Source.STANCE,
+            AggressiveStrategy.class, 0, ATTACK_BONUS_PERCENT, 0, StatModifier.PERMANENT);
+    
+    @Override
+    public StatModifier getStance() {
+        return STANCE;
+    }
     
     @Override
     public int calculateAttack(Player player) {
-        // Aggressive strategy: 150% attack but with randomness
-        int baseAttack = player.getAttack();
-        int bonusAttack = (int)(baseAttack * 0.5); // 50% bonus
+        Random random = GameRandom.current();
+        // The player's attack already includes the 50% bonus from the stance
+        int attack = player.getAttack();
         
         // Random factor between 80% and 120% of the total
         double randomFactor = 0.8 + (random.nextDouble() * 0.4);
         
-        return (int)((baseAttack + bonusAttack) * randomFactor);
+        return (int)(attack * randomFactor);
     }
     
     @Override
     public int calculateDefense(Player player) {
+        Random random = GameRandom.current();
         // Aggressive strategy: 75% normal defense
         int baseDefense = player.getDefense();
         
@@ -37,9 +47,10 @@ public class AggressiveStrategy implements CombatStrategy {
     
     @Override
     public int calculateAttack(Entity entity) {
+        Random random = GameRandom.current();
         // Aggressive strategy: 150% attack but with randomness
         int baseAttack = entity.getAttack();
-        int bonusAttack = (int)(baseAttack * 0.5); // 50% bonus
+        int bonusAttack = baseAttack * ATTACK_BONUS_PERCENT / 100;
         
         // Random factor between 80% and 120% of the total
         double randomFactor = 0.8 + (random.nextDouble() * 0.4);
@@ -49,6 +60,7 @@ public class AggressiveStrategy implements CombatStrategy {
     
     @Override
     public int calculateDefense(Entity entity) {
+        Random random = GameRandom.current();
         // Aggressive strategy: 75% normal defense
         int baseDefense = entity.getDefense();
         
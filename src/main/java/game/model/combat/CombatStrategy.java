@@ -2,12 +2,24 @@ package game.model.combat;
 
 import game.model.Player;
 import game.model.entities.Entity;
+import game.model.stats.StatModifier;
 
 /**
  * Interface for the Strategy pattern, representing different combat strategies.
  */
 public interface CombatStrategy {
     
+    /**
+     * Gets the stance a player takes with this strategy: a modifier applied to the
+     * player's stats for as long as the strategy is in use, so the player's attack and
+     * defense already include it.
+     * 
+     * @return The stance modifier, or null if the strategy has none
+     */
+    default StatModifier getStance() {
+        return null;
+    }
+    
     /**
      * Calculates attack damage for a player.
      * 
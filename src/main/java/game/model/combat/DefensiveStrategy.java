@@ -1,7 +1,9 @@
 package game.model.combat;
 
+import game.model.GameRandom;
 import game.model.Player;
 import game.model.entities.Entity;
+import game.model.stats.StatModifier;
 
 import java.util.Random;
 
@@ -10,10 +12,18 @@ import java.util.Random;
  * Part of the Strategy pattern implementation.
  */
 public class DefensiveStrategy implements CombatStrategy {
-    private Random random = new Random();
+    private static final int DEFENSE_BONUS_PERCENT = 75;
+    private static final StatModifier STANCE = StatModifier.percent(StatModifier.Source.STANCE,
+            DefensiveStrategy.class, 0, 0, DEFENSE_BONUS_PERCENT, StatModifier.PERMANENT);
+    
+    @Override
+    public StatModifier getStance() {
+        return STANCE;
+    }
     
     @Override
     public int calculateAttack(Player player) {
+        Random random = GameRandom.current();
         // Defensive strategy: 80% normal attack
         int baseAttack = player.getAttack();
         
@@ -25,18 +35,19 @@ public class DefensiveStrategy implements CombatStrategy {
     
     @Override
     public int calculateDefense(Player player) {
-        // Defensive strategy: 175% normal defense
-        int baseDefense = player.getDefense();
-        int bonusDefense = (int)(baseDefense * 0.75); // 75% bonus
+        Random random = GameRandom.current();
+        // The player's defense already includes the 75% bonus from the stance
+        int defense = player.getDefense();
         
         // Random factor between 90% and 110% of the total
         double randomFactor = 0.9 + (random.nextDouble() * 0.2);
         
-        return (int)((baseDefense + bonusDefense) * randomFactor);
+        return (int)(defense * randomFactor);
     }
     
     @Override
     public int calculateAttack(Entity entity) {
+        Random random = GameRandom.current();
         // Defensive strategy: 80% normal attack
         int baseAttack = entity.getAttack();
         
@@ -48,9 +59,10 @@ public class DefensiveStrategy implements CombatStrategy {
     
     @Override
     public int calculateDefense(Entity entity) {
+        Random random = GameRandom.current();
         // Defensive strategy: 175% normal defense
         int baseDefense = entity.getDefense();
-        int bonusDefense = (int)(baseDefense * 0.75); // 75% bonus
+        int bonusDefense = baseDefense * DEFENSE_BONUS_PERCENT / 100;
         
         // Random factor between 90% and 110% of the total
         double randomFactor = 0.9 + (random.nextDouble() * 0.2);
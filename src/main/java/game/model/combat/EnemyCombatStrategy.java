@@ -1,5 +1,6 @@
 package game.model.combat;
 
+import game.model.GameRandom;
 import game.model.Player;
 import game.model.entities.Entity;
 
@@ -10,13 +11,21 @@ import java.util.Random;
  * Part of the Strategy pattern implementation.
  */
 public class EnemyCombatStrategy implements CombatStrategy {
-    private Random random = new Random();
     private int strategyType; // 0 = balanced, 1 = aggressive, 2 = defensive, 3 = magic
     
     /**
      * Creates a new enemy combat strategy with a random approach.
      */
     public EnemyCombatStrategy() {
+        this(GameRandom.current());
+    }
+    
+    /**
+     * Creates a new enemy combat strategy, choosing its approach with the given generator.
+     * 
+     * @param random The generator used to pick the approach
+     */
+    public EnemyCombatStrategy(Random random) {
         // Randomly select a strategy type
         this.strategyType = random.nextInt(4);
     }
@@ -35,6 +44,7 @@ public class EnemyCombatStrategy implements CombatStrategy {
     
     @Override
     public int calculateAttack(Entity entity) {
+        Random random = GameRandom.current();
         int baseAttack = entity.getAttack();
         double modifier;
         
@@ -64,6 +74,7 @@ public class EnemyCombatStrategy implements CombatStrategy {
     
     @Override
     public int calculateDefense(Entity entity) {
+        Random random = GameRandom.current();
         int baseDefense = entity.getDefense();
         double modifier;
         
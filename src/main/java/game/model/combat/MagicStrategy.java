@@ -1,5 +1,7 @@
 package game.model.combat;
 
+import game.model.GameLog;
+import game.model.GameRandom;
 import game.model.Player;
 import game.model.entities.Entity;
 
@@ -10,10 +12,9 @@ import java.util.Random;
  * Part of the Strategy pattern implementation.
  */
 public class MagicStrategy implements CombatStrategy {
-    private Random random = new Random();
-    
     @Override
     public int calculateAttack(Player player) {
+        Random random = GameRandom.current();
         // Magic strategy: Base attack with high variance
         int baseAttack = player.getAttack();
         
@@ -23,7 +24,7 @@ public class MagicStrategy implements CombatStrategy {
         // Critical hit chance (15% chance for double damage)
         if (random.nextDouble() < 0.15) {
             randomFactor *= 2;
-            System.out.println("Critical hit with magic!");
+            GameLog.print("Critical hit with magic!");
         }
         
         return (int)(baseAttack * randomFactor);
@@ -31,6 +32,7 @@ public class MagicStrategy implements CombatStrategy {
     
     @Override
     public int calculateDefense(Player player) {
+        Random random = GameRandom.current();
         // Magic strategy: Base defense with medium variance
         int baseDefense = player.getDefense();
         
@@ -40,7 +42,7 @@ public class MagicStrategy implements CombatStrategy {
         // Magic barrier chance (10% chance for double defense)
         if (random.nextDouble() < 0.1) {
             randomFactor *= 2;
-            System.out.println("Magic barrier activated!");
+            GameLog.print("Magic barrier activated!");
         }
         
         return (int)(baseDefense * randomFactor);
@@ -48,6 +50,7 @@ public class MagicStrategy implements CombatStrategy {
     
     @Override
     public int calculateAttack(Entity entity) {
+        Random random = GameRandom.current();
         // Magic strategy: Base attack with high variance
         int baseAttack = entity.getAttack();
         
@@ -57,7 +60,7 @@ public class MagicStrategy implements CombatStrategy {
         // Critical hit chance (15% chance for double damage)
         if (random.nextDouble() < 0.15) {
             randomFactor *= 2;
-            System.out.println("Critical hit with magic!");
+            GameLog.print("Critical hit with magic!");
         }
         
         return (int)(baseAttack * randomFactor);
@@ -65,6 +68,7 @@ public class MagicStrategy implements CombatStrategy {
     
     @Override
     public int calculateDefense(Entity entity) {
+        Random random = GameRandom.current();
         // Magic strategy: Base defense with medium variance
         int baseDefense = entity.getDefense();
         
@@ -74,7 +78,7 @@ public class MagicStrategy implements CombatStrategy {
         // Magic barrier chance (10% chance for double defense)
         if (random.nextDouble() < 0.1) {
             randomFactor *= 2;
-            System.out.println("Magic barrier activated!");
+            GameLog.print("Magic barrier activated!");
         }
         
         return (int)(baseDefense * randomFactor);
@@ -0,0 +1,89 @@
+package game.model.command;
+
+import game.model.Direction;
+
+/**
+ * A player command that has been parsed once into a verb and its arguments.
+ * Commands are immutable, so commands without arguments can be shared.
+ */
+public final class Command {
+    private static final Command[] CANONICAL = new Command[Verb.values().length];
+
+    static {
+        for (Verb verb : Verb.values()) {
+            CANONICAL[verb.ordinal()] = new Command(verb, verb.getWord(), "", null);
+        }
+    }
+
+    private final Verb verb;
+    private final String text;
+    private final String argument;
+    private final Direction direction;
+
+    /**
+     * Creates a new command.
+     *
+     * @param verb      The verb the command resolved to
+     * @param text      The normalized input text
+     * @param argument  The argument following the verb, or an empty string
+     * @param direction The direction for movement commands, or null
+     */
+    public Command(Verb verb, String text, String argument, Direction direction) {
+        this.verb = verb;
+        this.text = text;
+        this.argument = argument;
+        this.direction = direction;
+    }
+
+    /**
+     * Gets the shared argument-less command for a verb.
+     *
+     * @param verb The verb
+     * @return The canonical command
+     */
+    public static Command of(Verb verb) {
+        return CANONICAL[verb.ordinal()];
+    }
+
+    /**
+     * Checks if this command has the given verb.
+     *
+     * @param verb The verb to check
+     * @return true if the verbs match, false otherwise
+     */
+    public boolean is(Verb verb) {
+        return this.verb == verb;
+    }
+
+    /**
+     * Checks if this command carries an argument.
+     *
+     * @return true if an argument is present, false otherwise
+     */
+    public boolean hasArgument() {
+        return !argument.isEmpty();
+    }
+
+    // Getters
+
+    public Verb getVerb() {
+        return verb;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public String getArgument() {
+        return argument;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,46 @@
+package game.model.command;
+
+/**
+ * Enum representing the verbs a player command can resolve to.
+ * Each verb has a canonical word used when a command is rebuilt from its verb alone.
+ * Replays store verbs by ordinal, so new verbs must be appended at the end,
+ * and there is room for at most 63 of them.
+ */
+public enum Verb {
+    HELP("help"),
+    LOOK("look"),
+    INVENTORY("inventory"),
+    STATUS("status"),
+    MOVE("move"),
+    AGGRESSIVE("aggressive"),
+    DEFENSIVE("defensive"),
+    MAGIC("magic"),
+    QUIT("quit"),
+    ATTACK("attack"),
+    EXAMINE("examine"),
+    SNEAK("sneak"),
+    SOLVE("solve"),
+    ANSWER("answer"),
+    HINT("hint"),
+    SEARCH("search"),
+    TAKE("take"),
+    OPEN("open"),
+    DISARM("disarm"),
+    AVOID("avoid"),
+    UNKNOWN("");
+
+    private final String word;
+
+    Verb(String word) {
+        this.word = word;
+    }
+
+    /**
+     * Gets the canonical word for this verb.
+     *
+     * @return The canonical word
+     */
+    public String getWord() {
+        return word;
+    }
+}
@@ -0,0 +1,137 @@
+package game.model.content;
+
+import game.model.Artifact;
+
+/**
+ * Immutable definition of an artifact or key, loaded from the content catalog.
+ */
+public final class ArtifactTemplate {
+    private final String id;
+    private final String name;
+    private final String description;
+    private final int healthBonus;
+    private final int attackBonus;
+    private final int defenseBonus;
+    private final String keyId; // What this key unlocks, or null if it is not a key
+    private final int duration; // Moves the bonuses last, or 0 if they are permanent
+
+    /**
+     * Creates a new artifact template. Templates loaded from the catalog have an id;
+     * templates made for a single artifact outside the catalog pass null.
+     *
+     * @param id           The catalog id, or null
+     * @param name         The artifact's name
+     * @param description  Description of the artifact
+     * @param healthBonus  Health bonus provided
+     * @param attackBonus  Attack bonus provided
+     * @param defenseBonus Defense bonus provided
+     * @param keyId        What the artifact unlocks, or null if it is not a key
+     */
+    public ArtifactTemplate(String id, String name, String description, int healthBonus, int attackBonus,
+                     int defenseBonus, String keyId) {
+        this(id, name, description, healthBonus, attackBonus, defenseBonus, keyId, 0);
+    }
+
+    /**
+     * Creates a new artifact template whose bonuses may wear off, such as a potion.
+     *
+     * @param id           The catalog id, or null
+     * @param name         The artifact's name
+     * @param description  Description of the artifact
+     * @param healthBonus  Health bonus provided
+     * @param attackBonus  Attack bonus provided
+     * @param defenseBonus Defense bonus provided
+     * @param keyId        What the artifact unlocks, or null if it is not a key
+     * @param duration     Number of moves the bonuses last, or 0 if they are permanent
+     */
+    public ArtifactTemplate(String id, String name, String description, int healthBonus, int attackBonus,
+                     int defenseBonus, String keyId, int duration) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.healthBonus = healthBonus;
+        this.attackBonus = attackBonus;
+        this.defenseBonus = defenseBonus;
+        this.keyId = keyId;
+        this.duration = duration;
+    }
+
+    /**
+     * Creates a new artifact from this template. The artifact only holds a
+     * reference back to the template, so drops are cheap to create.
+     *
+     * @return The new artifact
+     */
+    public Artifact create() {
+        return new Artifact(this);
+    }
+
+    /**
+     * Checks if the bonuses of this template wear off after a number of moves.
+     *
+     * @return true if the bonuses are temporary, false if they are permanent
+     */
+    public boolean isTemporary() {
+        return duration > 0;
+    }
+
+    /**
+     * Checks if this template describes a key.
+     *
+     * @return true if it's a key, false otherwise
+     */
+    public boolean isKey() {
+        return keyId != null;
+    }
+
+    // Getters
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public int getHealthBonus() {
+        return healthBonus;
+    }
+
+    public int getAttackBonus() {
+        return attackBonus;
+    }
+
+    public int getDefenseBonus() {
+        return defenseBonus;
+    }
+
+    public String getKeyId() {
+        return keyId;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(name).append(": ").append(description);
+
+        if (isKey()) {
+            sb.append(" (Key)");
+        } else {
+            if (healthBonus != 0) sb.append(" HP+").append(healthBonus);
+            if (attackBonus != 0) sb.append(" ATK+").append(attackBonus);
+            if (defenseBonus != 0) sb.append(" DEF+").append(defenseBonus);
+            if (isTemporary()) sb.append(" for ").append(duration).append(" moves");
+        }
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,399 @@
+package game.model.content;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The game's content: enemies, traps, artifacts and riddles, parsed once from a catalog
+ * file into immutable templates indexed by id, plus named pools that rooms draw from.
+ *
+ * The catalog is read from the file named by the "game.content" system property, or from
+ * the bundled resource game/content/catalog.txt. Each line is a '|'-separated record:
+ *
+ * <pre>
+ * enemy|id|name|description|health|attack|defense|speed|experience
+ * trap|id|name|description|damage
+ * artifact|id|name|description|healthBonus|attackBonus|defenseBonus[|duration]
+ * key|id|name|description|keyId
+ * riddle|id|question|answer
+ * pool|id|enemy, trap, artifact or riddle|id,id,...
+ * </pre>
+ *
+ * An artifact with a duration grants its bonuses for that many moves only.
+ *
+ * A catalog never changes once loaded. {@link #reload()} parses the source again and swaps
+ * the new catalog in; rooms created afterwards use it, rooms that already exist keep theirs.
+ */
+public final class ContentCatalog {
+    private static final String RESOURCE = "/game/content/catalog.txt";
+    private static final String SOURCE_PROPERTY = "game.content";
+
+    private static volatile ContentCatalog current;
+
+    private final Map<String, EnemyTemplate> enemies;
+    private final Map<String, TrapTemplate> traps;
+    private final Map<String, ArtifactTemplate> artifacts;
+    private final Map<String, RiddleTemplate> riddles;
+    private final Map<String, List<EnemyTemplate>> enemyPools;
+    private final Map<String, List<TrapTemplate>> trapPools;
+    private final Map<String, List<ArtifactTemplate>> artifactPools;
+    private final Map<String, List<RiddleTemplate>> riddlePools;
+
+    private ContentCatalog(Parser parser) {
+        this.enemies = Collections.unmodifiableMap(parser.enemies);
+        this.traps = Collections.unmodifiableMap(parser.traps);
+        this.artifacts = Collections.unmodifiableMap(parser.artifacts);
+        this.riddles = Collections.unmodifiableMap(parser.riddles);
+        this.enemyPools = Collections.unmodifiableMap(parser.enemyPools);
+        this.trapPools = Collections.unmodifiableMap(parser.trapPools);
+        this.artifactPools = Collections.unmodifiableMap(parser.artifactPools);
+        this.riddlePools = Collections.unmodifiableMap(parser.riddlePools);
+    }
+
+    /**
+     * Gets the current catalog, loading it on first use.
+     *
+     * @return The current catalog
+     * @throws IllegalStateException If the catalog cannot be loaded
+     */
+    public static ContentCatalog get() {
+        ContentCatalog catalog = current;
+        if (catalog == null) {
+            synchronized (ContentCatalog.class) {
+                catalog = current;
+                if (catalog == null) {
+                    try {
+                        catalog = loadDefault();
+                    } catch (IOException e) {
+                        throw new IllegalStateException("Could not load game content: " + e.getMessage(), e);
+                    }
+                    current = catalog;
+                }
+            }
+        }
+        return catalog;
+    }
+
+    /**
+     * Parses the catalog source again and makes the result current.
+     * If the new content is invalid, the current catalog stays in place.
+     *
+     * @return The new catalog
+     * @throws IOException If the catalog cannot be read or is invalid
+     */
+    public static ContentCatalog reload() throws IOException {
+        ContentCatalog catalog = loadDefault();
+        current = catalog;
+        return catalog;
+    }
+
+    /**
+     * Loads a catalog from a file without making it current.
+     *
+     * @param path The catalog file
+     * @return The loaded catalog
+     * @throws IOException If the file cannot be read or is invalid
+     */
+    public static ContentCatalog load(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return parse(reader, path.toString());
+        }
+    }
+
+    /**
+     * Parses a catalog.
+     *
+     * @param reader The catalog text
+     * @param source Name of the source, used in error messages
+     * @return The parsed catalog
+     * @throws IOException If the text cannot be read or is invalid
+     */
+    public static ContentCatalog parse(Reader reader, String source) throws IOException {
+        Parser parser = new Parser(source);
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        while ((line = lines.readLine()) != null) {
+            parser.parseLine(line);
+        }
+        parser.resolvePools();
+        return new ContentCatalog(parser);
+    }
+
+    private static ContentCatalog loadDefault() throws IOException {
+        String path = System.getProperty(SOURCE_PROPERTY);
+        if (path != null) {
+            return load(Paths.get(path));
+        }
+
+        InputStream in = ContentCatalog.class.getResourceAsStream(RESOURCE);
+        if (in == null) {
+            throw new IOException("Resource " + RESOURCE + " not found on the classpath");
+        }
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            return parse(reader, RESOURCE);
+        }
+    }
+
+    /**
+     * Gets the enemies in a pool.
+     *
+     * @param poolId The pool id
+     * @return The enemies, in catalog order
+     * @throws IllegalArgumentException If there is no such pool
+     */
+    public List<EnemyTemplate> getEnemyPool(String poolId) {
+        return pool(enemyPools, poolId);
+    }
+
+    /**
+     * Gets the traps in a pool.
+     *
+     * @param poolId The pool id
+     * @return The traps, in catalog order
+     * @throws IllegalArgumentException If there is no such pool
+     */
+    public List<TrapTemplate> getTrapPool(String poolId) {
+        return pool(trapPools, poolId);
+    }
+
+    /**
+     * Gets the artifacts in a pool.
+     *
+     * @param poolId The pool id
+     * @return The artifacts, in catalog order
+     * @throws IllegalArgumentException If there is no such pool
+     */
+    public List<ArtifactTemplate> getArtifactPool(String poolId) {
+        return pool(artifactPools, poolId);
+    }
+
+    /**
+     * Gets the riddles in a pool.
+     *
+     * @param poolId The pool id
+     * @return The riddles, in catalog order
+     * @throws IllegalArgumentException If there is no such pool
+     */
+    public List<RiddleTemplate> getRiddlePool(String poolId) {
+        return pool(riddlePools, poolId);
+    }
+
+    /**
+     * Finds the key that opens the given lock.
+     *
+     * @param keyId The lock identifier
+     * @return The key template, or null if no key opens it
+     */
+    public ArtifactTemplate findKey(String keyId) {
+        for (ArtifactTemplate artifact : artifacts.values()) {
+            if (keyId.equals(artifact.getKeyId())) {
+                return artifact;
+            }
+        }
+        return null;
+    }
+
+    private static <T> List<T> pool(Map<String, List<T>> pools, String poolId) {
+        List<T> pool = pools.get(poolId);
+        if (pool == null) {
+            throw new IllegalArgumentException("Unknown content pool: " + poolId);
+        }
+        return pool;
+    }
+
+    // Getters
+
+    public EnemyTemplate getEnemy(String id) {
+        return enemies.get(id);
+    }
+
+    public TrapTemplate getTrap(String id) {
+        return traps.get(id);
+    }
+
+    public ArtifactTemplate getArtifact(String id) {
+        return artifacts.get(id);
+    }
+
+    public RiddleTemplate getRiddle(String id) {
+        return riddles.get(id);
+    }
+
+    public Map<String, EnemyTemplate> getEnemies() {
+        return enemies;
+    }
+
+    public Map<String, TrapTemplate> getTraps() {
+        return traps;
+    }
+
+    public Map<String, ArtifactTemplate> getArtifacts() {
+        return artifacts;
+    }
+
+    public Map<String, RiddleTemplate> getRiddles() {
+        return riddles;
+    }
+
+    @Override
+    public String toString() {
+        return enemies.size() + " enemies, " + traps.size() + " traps, " + artifacts.size() + " artifacts, "
+                + riddles.size() + " riddles, "
+                + (enemyPools.size() + trapPools.size() + artifactPools.size() + riddlePools.size()) + " pools";
+    }
+
+    /**
+     * Accumulates definitions line by line; pools are resolved once every definition is known.
+     */
+    private static class Parser {
+        private final String source;
+        private int lineNumber;
+
+        private final Map<String, EnemyTemplate> enemies = new LinkedHashMap<>();
+        private final Map<String, TrapTemplate> traps = new LinkedHashMap<>();
+        private final Map<String, ArtifactTemplate> artifacts = new LinkedHashMap<>();
+        private final Map<String, RiddleTemplate> riddles = new LinkedHashMap<>();
+        private final Map<String, List<EnemyTemplate>> enemyPools = new HashMap<>();
+        private final Map<String, List<TrapTemplate>> trapPools = new HashMap<>();
+        private final Map<String, List<ArtifactTemplate>> artifactPools = new HashMap<>();
+        private final Map<String, List<RiddleTemplate>> riddlePools = new HashMap<>();
+        private final List<String[]> pendingPools = new ArrayList<>();
+        private final List<Integer> pendingPoolLines = new ArrayList<>();
+
+        Parser(String source) {
+            this.source = source;
+        }
+
+        void parseLine(String line) throws IOException {
+            lineNumber++;
+            String text = line.trim();
+            if (text.isEmpty() || text.startsWith("#")) {
+                return;
+            }
+
+            String[] fields = text.split("\\|", -1);
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = fields[i].trim();
+            }
+
+            switch (fields[0]) {
+                case "enemy":
+                    expect(fields, 9);
+                    put(enemies, fields[1], new EnemyTemplate(fields[1], fields[2], fields[3],
+                            number(fields[4]), number(fields[5]), number(fields[6]),
+                            number(fields[7]), number(fields[8])));
+                    break;
+                case "trap":
+                    expect(fields, 5);
+                    put(traps, fields[1], new TrapTemplate(fields[1], fields[2], fields[3], number(fields[4])));
+                    break;
+                case "artifact":
+                    expect(fields, 7, 8);
+                    put(artifacts, fields[1], new ArtifactTemplate(fields[1], fields[2], fields[3],
+                            number(fields[4]), number(fields[5]), number(fields[6]), null,
+                            fields.length > 7 ? number(fields[7]) : 0));
+                    break;
+                case "key":
+                    expect(fields, 5);
+                    put(artifacts, fields[1], new ArtifactTemplate(fields[1], fields[2], fields[3],
+                            0, 0, 0, fields[4]));
+                    break;
+                case "riddle":
+                    expect(fields, 4);
+                    put(riddles, fields[1], new RiddleTemplate(fields[1], fields[2], fields[3]));
+                    break;
+                case "pool":
+                    expect(fields, 4);
+                    pendingPools.add(fields);
+                    pendingPoolLines.add(lineNumber);
+                    break;
+                default:
+                    throw error("unknown record type '" + fields[0] + "'");
+            }
+        }
+
+        void resolvePools() throws IOException {
+            for (int i = 0; i < pendingPools.size(); i++) {
+                String[] fields = pendingPools.get(i);
+                lineNumber = pendingPoolLines.get(i);
+                switch (fields[2]) {
+                    case "enemy":
+                        put(enemyPools, fields[1], members(enemies, fields[3]));
+                        break;
+                    case "trap":
+                        put(trapPools, fields[1], members(traps, fields[3]));
+                        break;
+                    case "artifact":
+                        put(artifactPools, fields[1], members(artifacts, fields[3]));
+                        break;
+                    case "riddle":
+                        put(riddlePools, fields[1], members(riddles, fields[3]));
+                        break;
+                    default:
+                        throw error("unknown pool kind '" + fields[2] + "'");
+                }
+            }
+        }
+
+        private <T> List<T> members(Map<String, T> definitions, String ids) throws IOException {
+            List<T> members = new ArrayList<>();
+            for (String id : ids.split(",")) {
+                T definition = definitions.get(id.trim());
+                if (definition == null) {
+                    throw error("pool refers to unknown id '" + id.trim() + "'");
+                }
+                members.add(definition);
+            }
+            if (members.isEmpty()) {
+                throw error("pool is empty");
+            }
+            return Collections.unmodifiableList(members);
+        }
+
+        private <T> void put(Map<String, T> map, String id, T value) throws IOException {
+            if (id.isEmpty()) {
+                throw error("missing id");
+            }
+            if (map.putIfAbsent(id, value) != null) {
+                throw error("duplicate id '" + id + "'");
+            }
+        }
+
+        private void expect(String[] fields, int count) throws IOException {
+            if (fields.length != count) {
+                throw error("'" + fields[0] + "' needs " + count + " fields but has " + fields.length);
+            }
+        }
+
+        private void expect(String[] fields, int min, int max) throws IOException {
+            if (fields.length < min || fields.length > max) {
+                throw error("'" + fields[0] + "' needs " + min + " to " + max + " fields but has " + fields.length);
+            }
+        }
+
+        private int number(String field) throws IOException {
+            try {
+                return Integer.parseInt(field);
+            } catch (NumberFormatException e) {
+                throw error("'" + field + "' is not a number");
+            }
+        }
+
+        private IOException error(String message) {
+            return new IOException(source + ":" + lineNumber + ": " + message);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package game.model.content;
+
+import game.model.combat.EnemyCombatStrategy;
+import game.model.entities.Enemy;
+import game.model.entities.SleepingState;
+
+import java.util.Random;
+
+/**
+ * Immutable definition of an enemy type, loaded from the content catalog.
+ */
+public final class EnemyTemplate {
+    private final String id;
+    private final String name;
+    private final String description;
+    private final int health;
+    private final int attack;
+    private final int defense;
+    private final int speed;
+    private final int experience;
+
+    EnemyTemplate(String id, String name, String description, int health, int attack,
+                  int defense, int speed, int experience) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.health = health;
+        this.attack = attack;
+        this.defense = defense;
+        this.speed = speed;
+        this.experience = experience;
+    }
+
+    /**
+     * Creates a new enemy of this type with a random combat strategy, starting asleep.
+     *
+     * @param random The generator used to pick the strategy
+     * @return The new enemy
+     */
+    public Enemy create(Random random) {
+        EnemyCombatStrategy strategy = new EnemyCombatStrategy(random);
+        Enemy enemy = new Enemy(name, description, health, attack, defense, speed, experience);
+        enemy.setState(new SleepingState(enemy));
+        enemy.setCombatStrategy(strategy);
+        return enemy;
+    }
+
+    // Getters
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public int getHealth() {
+        return health;
+    }
+
+    public int getAttack() {
+        return attack;
+    }
+
+    public int getDefense() {
+        return defense;
+    }
+
+    public int getSpeed() {
+        return speed;
+    }
+
+    public int getExperience() {
+        return experience;
+    }
+}
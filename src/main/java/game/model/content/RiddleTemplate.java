@@ -0,0 +1,30 @@
+package game.model.content;
+
+/**
+ * Immutable riddle with its answer, loaded from the content catalog.
+ */
+public final class RiddleTemplate {
+    private final String id;
+    private final String question;
+    private final String answer;
+
+    RiddleTemplate(String id, String question, String answer) {
+        this.id = id;
+        this.question = question;
+        this.answer = answer;
+    }
+
+    // Getters
+
+    public String getId() {
+        return id;
+    }
+
+    public String getQuestion() {
+        return question;
+    }
+
+    public String getAnswer() {
+        return answer;
+    }
+}
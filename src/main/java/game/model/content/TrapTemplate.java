@@ -0,0 +1,47 @@
+package game.model.content;
+
+import game.model.traps.Trap;
+
+/**
+ * Immutable definition of a trap type, loaded from the content catalog.
+ */
+public final class TrapTemplate {
+    private final String id;
+    private final String name;
+    private final String description;
+    private final int damage;
+
+    TrapTemplate(String id, String name, String description, int damage) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.damage = damage;
+    }
+
+    /**
+     * Creates a new trap of this type. Its state must be set by the caller.
+     *
+     * @return The new trap
+     */
+    public Trap create() {
+        return new Trap(name, description, damage);
+    }
+
+    // Getters
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public int getDamage() {
+        return damage;
+    }
+}
@@ -0,0 +1,239 @@
+package game.model.entities;
+
+import game.model.Position;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps track of every enemy in a labyrinth, where it is and whether it has been defeated.
+ * The registry is updated as enemies spawn, move and die, so queries never scan the grid.
+ * Living enemies are also bucketed by square regions of {@link #REGION_SIZE} cells.
+ * All query methods return read-only views that reflect later changes.
+ * Enemies created lazily are reserved first and only appear in the lists once they spawn.
+ */
+public class EnemyRegistry {
+    public static final int REGION_SIZE = 16;
+    
+    private final int regionsX;
+    private final int regionsY;
+    private final List<Enemy> all;
+    private final List<Enemy> alive;
+    private final List<Enemy> defeated;
+    private final Map<Long, List<Enemy>> regions;
+    private final Map<Enemy, Entry> entries;
+    private int reserved;
+    
+    /**
+     * Creates an empty registry for a labyrinth of the given size.
+     * 
+     * @param width  Width of the labyrinth
+     * @param height Height of the labyrinth
+     */
+    public EnemyRegistry(int width, int height) {
+        this.regionsX = (width + REGION_SIZE - 1) / REGION_SIZE;
+        this.regionsY = (height + REGION_SIZE - 1) / REGION_SIZE;
+        this.all = new ArrayList<>();
+        this.alive = new ArrayList<>();
+        this.defeated = new ArrayList<>();
+        // Buckets are created when the first enemy enters a region, so empty regions cost nothing
+        this.regions = new HashMap<>();
+        this.entries = new IdentityHashMap<>();
+        this.reserved = 0;
+    }
+    
+    /**
+     * Reserves places for enemies that exist but haven't been created yet,
+     * so they count as alive until they spawn.
+     * 
+     * @param count The number of enemies to reserve
+     */
+    public void reserve(int count) {
+        reserved += count;
+    }
+    
+    /**
+     * Registers a newly spawned enemy.
+     * 
+     * @param enemy    The enemy
+     * @param position Where it spawned
+     */
+    public void spawn(Enemy enemy, Position position) {
+        if (entries.containsKey(enemy)) {
+            throw new IllegalArgumentException("Enemy already registered: " + enemy.getName());
+        }
+        
+        Entry entry = new Entry(position, regionOf(position));
+        entries.put(enemy, entry);
+        if (reserved > 0) {
+            reserved--;
+        }
+        all.add(enemy);
+        entry.aliveIndex = alive.size();
+        alive.add(enemy);
+        addToRegion(enemy, entry);
+    }
+    
+    /**
+     * Moves a living enemy to a new position, changing its region bucket if needed.
+     * 
+     * @param enemy    The enemy
+     * @param position Its new position
+     */
+    public void move(Enemy enemy, Position position) {
+        Entry entry = entries.get(enemy);
+        if (entry == null || entry.aliveIndex < 0) {
+            return;
+        }
+        
+        entry.position = position;
+        long region = regionOf(position);
+        if (region != entry.region) {
+            removeFromRegion(entry);
+            entry.region = region;
+            addToRegion(enemy, entry);
+        }
+    }
+    
+    /**
+     * Moves an enemy from the living partition to the defeated one.
+     * 
+     * @param enemy The defeated enemy
+     */
+    public void defeated(Enemy enemy) {
+        Entry entry = entries.get(enemy);
+        if (entry == null || entry.aliveIndex < 0) {
+            return;
+        }
+        
+        removeAt(alive, entry.aliveIndex);
+        entry.aliveIndex = -1;
+        removeFromRegion(entry);
+        defeated.add(enemy);
+    }
+    
+    /**
+     * Gets the position an enemy was last registered at.
+     * 
+     * @param enemy The enemy
+     * @return Its position, or null if it isn't registered
+     */
+    public Position getPosition(Enemy enemy) {
+        Entry entry = entries.get(enemy);
+        return entry == null ? null : entry.position;
+    }
+    
+    /**
+     * Gets the living enemies in the region containing a position.
+     * 
+     * @param position A position inside the region
+     * @return The region's living enemies, empty if the position is outside the labyrinth
+     */
+    public List<Enemy> getAliveInRegion(Position position) {
+        List<Enemy> bucket = regions.get(regionOf(position));
+        if (bucket == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(bucket);
+    }
+    
+    /**
+     * Checks if an enemy has been defeated.
+     * 
+     * @param enemy The enemy
+     * @return true if it is registered and defeated, false otherwise
+     */
+    public boolean isDefeated(Enemy enemy) {
+        Entry entry = entries.get(enemy);
+        return entry != null && entry.aliveIndex < 0;
+    }
+    
+    // Getters
+    
+    public List<Enemy> getAll() {
+        return Collections.unmodifiableList(all);
+    }
+    
+    public List<Enemy> getAlive() {
+        return Collections.unmodifiableList(alive);
+    }
+    
+    public List<Enemy> getDefeated() {
+        return Collections.unmodifiableList(defeated);
+    }
+    
+    public int getAliveCount() {
+        return alive.size() + reserved;
+    }
+    
+    public int getReservedCount() {
+        return reserved;
+    }
+    
+    private long regionOf(Position position) {
+        int rx = Math.floorDiv(position.getX(), REGION_SIZE);
+        int ry = Math.floorDiv(position.getY(), REGION_SIZE);
+        if (rx < 0 || rx >= regionsX || ry < 0 || ry >= regionsY) {
+            return -1;
+        }
+        return (long) ry * regionsX + rx;
+    }
+    
+    private void addToRegion(Enemy enemy, Entry entry) {
+        if (entry.region < 0) {
+            entry.regionIndex = -1;
+            return;
+        }
+        List<Enemy> bucket = regions.get(entry.region);
+        if (bucket == null) {
+            bucket = new ArrayList<>(4);
+            regions.put(entry.region, bucket);
+        }
+        entry.regionIndex = bucket.size();
+        bucket.add(enemy);
+    }
+    
+    private void removeFromRegion(Entry entry) {
+        if (entry.region >= 0 && entry.regionIndex >= 0) {
+            removeAt(regions.get(entry.region), entry.regionIndex);
+            entry.regionIndex = -1;
+        }
+    }
+    
+    /**
+     * Removes an element in constant time by moving the last element into its slot,
+     * then fixes up the moved enemy's stored index.
+     */
+    private void removeAt(List<Enemy> list, int index) {
+        Enemy last = list.remove(list.size() - 1);
+        if (index == list.size()) {
+            return;
+        }
+        list.set(index, last);
+        Entry moved = entries.get(last);
+        if (list == alive) {
+            moved.aliveIndex = index;
+        } else {
+            moved.regionIndex = index;
+        }
+    }
+    
+    /**
+     * Where a registered enemy is and its slots in the alive list and region bucket.
+     */
+    private static final class Entry {
+        private Position position;
+        private long region;
+        private int aliveIndex;
+        private int regionIndex;
+        
+        private Entry(Position position, long region) {
+            this.position = position;
+            this.region = region;
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package game.model.entities;
 
+import game.model.GameLog;
+import game.model.GameRandom;
+
 /**
  * Represents an enemy in a fleeing state, trying to escape from the player.
  * Part of the State pattern implementation.
@@ -19,17 +22,17 @@ public class FleeingState implements EnemyState {
     @Override
     public void onPlayerDetected() {
         // Already fleeing, so nothing changes
-        System.out.println("The " + enemy.getName() + " continues trying to escape!");
+        GameLog.print("The " + enemy.getName() + " continues trying to escape!");
     }
     
     @Override
     public void onPlayerAttack() {
         // If attacked while fleeing, has a chance to fight back out of desperation
-        if (Math.random() < 0.3) {
+        if (GameRandom.nextDouble() < 0.3) {
             enemy.setState(new HuntingState(enemy));
-            System.out.println("The " + enemy.getName() + " turns to fight in desperation!");
+            GameLog.print("The " + enemy.getName() + " turns to fight in desperation!");
         } else {
-            System.out.println("The " + enemy.getName() + " desperately tries to avoid your attack!");
+            GameLog.print("The " + enemy.getName() + " desperately tries to avoid your attack!");
         }
     }
     
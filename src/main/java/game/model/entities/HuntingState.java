@@ -1,5 +1,8 @@
 package game.model.entities;
 
+import game.model.GameLog;
+import game.model.GameRandom;
+
 /**
  * Represents an enemy in a hunting state, actively pursuing the player.
  * Part of the State pattern implementation.
@@ -19,7 +22,7 @@ public class HuntingState implements EnemyState {
     @Override
     public void onPlayerDetected() {
         // Already hunting, so nothing changes
-        System.out.println("The " + enemy.getName() + " is already hunting you!");
+        GameLog.print("The " + enemy.getName() + " is already hunting you!");
     }
     
     @Override
@@ -27,18 +30,18 @@ public class HuntingState implements EnemyState {
         // If attacked while hunting and health is low, might start fleeing
         if (enemy.getHealth() < enemy.getMaxHealth() / 4) {
             enemy.setState(new FleeingState(enemy));
-            System.out.println("The " + enemy.getName() + " is badly hurt and tries to flee!");
+            GameLog.print("The " + enemy.getName() + " is badly hurt and tries to flee!");
         } else {
-            System.out.println("The " + enemy.getName() + " growls and fights back!");
+            GameLog.print("The " + enemy.getName() + " growls and fights back!");
         }
     }
     
     @Override
     public void onLowHealth() {
         // When health gets low, consider fleeing
-        if (Math.random() < 0.6) {
+        if (GameRandom.nextDouble() < 0.6) {
             enemy.setState(new FleeingState(enemy));
-            System.out.println("The " + enemy.getName() + " realizes it's outmatched and tries to flee!");
+            GameLog.print("The " + enemy.getName() + " realizes it's outmatched and tries to flee!");
         }
     }
     
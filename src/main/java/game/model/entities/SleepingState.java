@@ -1,5 +1,8 @@
 package game.model.entities;
 
+import game.model.GameLog;
+import game.model.GameRandom;
+
 /**
  * Represents an enemy in a sleeping state.
  * Part of the State pattern implementation.
@@ -19,11 +22,11 @@ public class SleepingState implements EnemyState {
     @Override
     public void onPlayerDetected() {
         // Probability of waking up when player is detected
-        if (Math.random() < 0.7) {
+        if (GameRandom.nextDouble() < 0.7) {
             enemy.setState(new HuntingState(enemy));
-            System.out.println("The " + enemy.getName() + " wakes up and sees you!");
+            GameLog.print("The " + enemy.getName() + " wakes up and sees you!");
         } else {
-            System.out.println("The " + enemy.getName() + " stirs but remains asleep.");
+            GameLog.print("The " + enemy.getName() + " stirs but remains asleep.");
         }
     }
     
@@ -31,7 +34,7 @@ public class SleepingState implements EnemyState {
     public void onPlayerAttack() {
         // Always wake up if attacked
         enemy.setState(new HuntingState(enemy));
-        System.out.println("The " + enemy.getName() + " roars in pain and anger as it wakes!");
+        GameLog.print("The " + enemy.getName() + " roars in pain and anger as it wakes!");
     }
     
     @Override
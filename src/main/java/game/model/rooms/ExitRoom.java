@@ -2,6 +2,13 @@ package game.model.rooms;
 
 import game.model.Player;
 import game.model.Position;
+import game.model.command.Command;
+import game.model.command.Verb;
+import game.model.content.ArtifactTemplate;
+import game.model.content.ContentCatalog;
+
+import java.util.List;
+import java.util.Random;
 
 /**
  * The exit room, where the player can escape the labyrinth.
@@ -13,16 +20,18 @@ public class ExitRoom extends Room {
     /**
      * Creates a new exit room.
      * 
-     * @param position The room's position
+     * @param position    The room's position
+     * @param contentSeed Seed the room's lock is chosen from
      */
-    public ExitRoom(Position position) {
+    public ExitRoom(Position position, long contentSeed) {
         super(RoomType.EXIT, position);
+        Random random = new Random(contentSeed);
         this.description = "A room with a large, ornate door that appears to lead outside.";
-        this.locked = Math.random() < 0.5; // 50% chance to be locked
+        this.locked = random.nextDouble() < 0.5; // 50% chance to be locked
         
         if (locked) {
-            String[] keyTypes = {"golden_lock", "crystal_lock", "runic_lock"};
-            this.keyRequired = keyTypes[(int) (Math.random() * keyTypes.length)];
+            List<ArtifactTemplate> keys = ContentCatalog.get().getArtifactPool("exit_locks");
+            this.keyRequired = keys.get(random.nextInt(keys.size())).getKeyId();
         }
     }
     
@@ -38,40 +47,26 @@ public class ExitRoom extends Room {
     }
     
     @Override
-    public String onInteract(Player player, String action) {
-        if (action.equalsIgnoreCase("open") || action.equalsIgnoreCase("exit") || 
-            action.equalsIgnoreCase("escape") || action.equalsIgnoreCase("leave")) {
+    public String onInteract(Player player, Command command) {
+        if (command.is(Verb.OPEN)) {
             
             if (locked) {
                 // Check if player has the required key
-                boolean hasKey = player.getInventory().stream()
-                        .anyMatch(a -> a.isKey() && a.getKeyId().equals(keyRequired));
+                boolean hasKey = player.getInventory().hasKey(keyRequired);
                 
                 if (hasKey) {
                     locked = false;
                     return "You use your key to unlock the exit door. You can now escape the labyrinth!";
                 } else {
-                    String keyName;
-                    switch (keyRequired) {
-                        case "golden_lock":
-                            keyName = "Golden Key";
-                            break;
-                        case "crystal_lock":
-                            keyName = "Crystal Key";
-                            break;
-                        case "runic_lock":
-                            keyName = "Runic Key";
-                            break;
-                        default:
-                            keyName = "special key";
-                    }
+                    ArtifactTemplate key = ContentCatalog.get().findKey(keyRequired);
+                    String keyName = key != null ? key.getName() : "special key";
                     
                     return "The exit door is locked. You need a " + keyName + " to unlock it.";
                 }
             } else {
                 return "VICTORY! You escape from the magical labyrinth!";
             }
-        } else if (action.equalsIgnoreCase("examine") || action.equalsIgnoreCase("look")) {
+        } else if (command.is(Verb.EXAMINE) || command.is(Verb.LOOK)) {
             if (locked) {
                 String lockType;
                 switch (keyRequired) {
@@ -3,102 +3,90 @@ package game.model.rooms;
 import game.model.Artifact;
 import game.model.Player;
 import game.model.Position;
-import game.model.combat.CombatStrategy;
-import game.model.combat.EnemyCombatStrategy;
+import game.model.command.Command;
+import game.model.command.Verb;
+import game.model.content.ArtifactTemplate;
+import game.model.content.ContentCatalog;
+import game.model.content.EnemyTemplate;
 import game.model.entities.Enemy;
-import game.model.entities.EnemyState;
-import game.model.entities.SleepingState;
+import game.model.entities.EnemyRegistry;
+import game.monitoring.CombatEvent;
+import game.monitoring.Counter;
+import game.monitoring.MetricsRegistry;
 
+import java.util.List;
 import java.util.Random;
 
 /**
  * A room containing a monster the player can fight.
+ * The monster and reward are created from the room's content seed the first time
+ * the room is entered or inspected.
  */
 public class MonsterRoom extends Room {
-    private Enemy enemy;
+    private static final Counter FIGHTS = MetricsRegistry.global().counter(MetricsRegistry.COMBAT_FIGHTS);
+    private static final Counter ROUNDS = MetricsRegistry.global().counter(MetricsRegistry.COMBAT_ROUNDS);
+    
+    private final long contentSeed;
+    private Enemy enemy; // Null until the room's contents are created
     private boolean defeated;
     private Artifact reward;
+    private EnemyRegistry enemyRegistry;
     
     /**
      * Creates a new monster room.
      * 
-     * @param position The room's position
+     * @param position    The room's position
+     * @param contentSeed Seed the room's contents are created from
      */
-    public MonsterRoom(Position position) {
+    public MonsterRoom(Position position, long contentSeed) {
         super(RoomType.MONSTER, position);
-        this.enemy = generateRandomEnemy();
-        this.description = "A dark room with the presence of danger. " + enemy.getDescription();
+        this.contentSeed = contentSeed;
         this.defeated = false;
-        this.reward = generateReward();
     }
     
     /**
-     * Generates a random enemy.
+     * Creates the enemy and reward if they don't exist yet, and registers the enemy.
+     */
+    private void materialize() {
+        if (enemy != null) {
+            return;
+        }
+        
+        Random random = new Random(contentSeed);
+        this.enemy = generateRandomEnemy(random);
+        this.description = "A dark room with the presence of danger. " + enemy.getDescription();
+        this.reward = generateReward(random);
+        if (enemyRegistry != null) {
+            enemyRegistry.spawn(enemy, position);
+        }
+    }
+    
+    /**
+     * Generates a random enemy from the catalog's monster pool.
      * 
+     * @param random The generator to use
      * @return The generated enemy
      */
-    private Enemy generateRandomEnemy() {
-        String[] enemyTypes = {
-            "Goblin:A small, green creature with a wicked grin:15:8:3:2:10",
-            "Skeleton:A reanimated skeleton clutching a rusty sword:25:10:2:3:15",
-            "Orc:A bulky, green-skinned brute with tusks:35:12:5:5:20",
-            "Troll:A towering creature with thick, regenerating skin:50:15:8:10:30",
-            "Ghost:A translucent specter that floats eerily:20:8:1:15:25",
-            "Giant Spider:A hairy arachnid the size of a wolf:30:12:4:4:20"
-        };
-        
-        Random random = new Random();
-        String[] enemyData = enemyTypes[random.nextInt(enemyTypes.length)].split(":");
-        
-        String name = enemyData[0];
-        String description = enemyData[1];
-        int health = Integer.parseInt(enemyData[2]);
-        int attack = Integer.parseInt(enemyData[3]);
-        int defense = Integer.parseInt(enemyData[4]);
-        int speed = Integer.parseInt(enemyData[5]);
-        int experience = Integer.parseInt(enemyData[6]);
-        
-        // Create the enemy with a random strategy
-        CombatStrategy strategy = new EnemyCombatStrategy();
-        Enemy enemy = new Enemy(name, description, health, attack, defense, speed, experience);
-        
-        // Start in sleeping state by default
-        EnemyState initialState = new SleepingState(enemy);
-        enemy.setState(initialState);
-        enemy.setCombatStrategy(strategy);
-        
-        return enemy;
+    private Enemy generateRandomEnemy(Random random) {
+        List<EnemyTemplate> enemies = ContentCatalog.get().getEnemyPool("monsters");
+        return enemies.get(random.nextInt(enemies.size())).create(random);
     }
     
     /**
      * Generates a reward for defeating the enemy.
      * 
+     * @param random The generator to use
      * @return An artifact reward
      */
-    private Artifact generateReward() {
-        String[] possibleRewards = {
-            "Monster Fang:A sharp fang taken from a defeated monster:0:3:0",
-            "Monster Hide:Tough hide that improves defense:0:0:3",
-            "Monster Heart:A still-beating heart that increases health:10:0:0",
-            "Monster Claw:A razor-sharp claw useful in combat:0:5:0",
-            "Monster Eye:A magical eye that enhances perception:5:2:2"
-        };
-        
-        Random random = new Random();
-        String[] rewardData = possibleRewards[random.nextInt(possibleRewards.length)].split(":");
-        
-        return new Artifact(
-            rewardData[0],
-            rewardData[1],
-            Integer.parseInt(rewardData[2]),
-            Integer.parseInt(rewardData[3]),
-            Integer.parseInt(rewardData[4])
-        );
+    private Artifact generateReward(Random random) {
+        List<ArtifactTemplate> rewards = ContentCatalog.get().getArtifactPool("monster_rewards");
+        return rewards.get(random.nextInt(rewards.size())).create();
     }
     
     @Override
     public String onEnter(Player player) {
         markVisited();
+        materialize();
         
         if (defeated) {
             return "You enter a room where you defeated a " + enemy.getName() + ". " + 
@@ -111,21 +99,26 @@ public class MonsterRoom extends Room {
     }
     
     @Override
-    public String onInteract(Player player, String action) {
+    public String onInteract(Player player, Command command) {
+        materialize();
         if (defeated) {
             return "The " + enemy.getName() + " has already been defeated.";
         }
         
-        if (action.equalsIgnoreCase("attack") || action.equalsIgnoreCase("fight")) {
+        if (command.is(Verb.ATTACK)) {
             // Start a combat sequence
+            CombatEvent event = new CombatEvent();
+            event.begin();
             enemy.playerDetected(); // Make sure the enemy is aware of the player
             
             StringBuilder combatLog = new StringBuilder();
             combatLog.append("You engage the ").append(enemy.getName()).append(" in combat!\n");
             
             boolean playerTurn = player.getPosition().getY() % 2 == 0; // Random-ish determination of who goes first
+            int rounds = 0;
             
             while (player.getHealth() > 0 && enemy.getHealth() > 0) {
+                rounds++;
                 if (playerTurn) {
                     // Player's turn
                     int playerDamage = player.attack();
@@ -150,20 +143,33 @@ public class MonsterRoom extends Room {
                 playerTurn = !playerTurn;
             }
             
-            if (player.getHealth() <= 0) {
+            boolean victory = player.getHealth() > 0;
+            FIGHTS.increment();
+            ROUNDS.add(rounds);
+            if (event.shouldCommit()) {
+                event.enemy = enemy.getName();
+                event.rounds = rounds;
+                event.outcome = victory ? "VICTORY" : "DEFEAT";
+                event.commit();
+            }
+            
+            if (!victory) {
                 return combatLog.toString() + "You have been defeated by the " + enemy.getName() + "!";
             } else {
                 defeated = true;
+                if (enemyRegistry != null) {
+                    enemyRegistry.defeated(enemy);
+                }
                 player.gainExperience(enemy.getExperienceValue());
                 player.addArtifact(reward);
                 return combatLog.toString() + "You defeated the " + enemy.getName() + "!\n" +
                        "You gained " + enemy.getExperienceValue() + " experience!\n" +
                        "You found: " + reward;
             }
-        } else if (action.equalsIgnoreCase("examine") || action.equalsIgnoreCase("look")) {
+        } else if (command.is(Verb.EXAMINE) || command.is(Verb.LOOK)) {
             return "You examine the " + enemy.getName() + ". " + enemy.getDescription() + " It is " + 
                    enemy.getState().getDescription() + ".";
-        } else if (action.equalsIgnoreCase("sneak") || action.equalsIgnoreCase("hide")) {
+        } else if (command.is(Verb.SNEAK)) {
             if (enemy.getState().canAvoid()) {
                 return "You successfully sneak past the " + enemy.getName() + " without alerting it.";
             } else {
@@ -176,14 +182,34 @@ public class MonsterRoom extends Room {
     }
     
     /**
-     * Gets the enemy in this room.
+     * Sets the registry told when this room's enemy spawns and when it is defeated.
+     * If the enemy already exists it is registered straight away.
+     * 
+     * @param enemyRegistry The registry
+     */
+    public void setEnemyRegistry(EnemyRegistry enemyRegistry) {
+        this.enemyRegistry = enemyRegistry;
+        if (enemy != null) {
+            enemyRegistry.spawn(enemy, position);
+        }
+    }
+    
+    /**
+     * Gets the enemy in this room, creating it if needed.
      * 
      * @return The enemy
      */
     public Enemy getEnemy() {
+        materialize();
         return enemy;
     }
     
+    @Override
+    public String getDescription() {
+        materialize();
+        return description;
+    }
+    
     /**
      * Checks if the enemy has been defeated.
      * 
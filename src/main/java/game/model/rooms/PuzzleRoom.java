@@ -3,18 +3,27 @@ package game.model.rooms;
 import game.model.Artifact;
 import game.model.Player;
 import game.model.Position;
+import game.model.command.Command;
+import game.model.command.Verb;
+import game.model.content.ArtifactTemplate;
+import game.model.content.ContentCatalog;
+import game.model.content.RiddleTemplate;
 import game.model.puzzle.Puzzle;
 import game.model.puzzle.PuzzleSubject;
 import game.model.puzzle.RiddlePuzzle;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 /**
  * A room containing a puzzle that must be solved.
+ * The puzzle and reward are created from the room's content seed the first time
+ * the room is entered or inspected.
  */
 public class PuzzleRoom extends Room implements PuzzleSubject {
-    private Puzzle puzzle;
+    private final long contentSeed;
+    private Puzzle puzzle; // Null until the room's contents are created
     private boolean solved;
     private List<Player> observers;
     private Artifact reward;
@@ -22,66 +31,57 @@ public class PuzzleRoom extends Room implements PuzzleSubject {
     /**
      * Creates a new puzzle room.
      * 
-     * @param position The room's position
+     * @param position    The room's position
+     * @param contentSeed Seed the room's contents are created from
      */
-    public PuzzleRoom(Position position) {
+    public PuzzleRoom(Position position, long contentSeed) {
         super(RoomType.PUZZLE, position);
         this.description = "A mysterious room with strange markings on the walls and floor.";
-        this.puzzle = createRandomPuzzle();
+        this.contentSeed = contentSeed;
         this.solved = false;
+    }
+    
+    /**
+     * Creates the puzzle and reward if they don't exist yet.
+     */
+    private void materialize() {
+        if (puzzle != null) {
+            return;
+        }
+        
+        Random random = new Random(contentSeed);
+        this.puzzle = createRandomPuzzle(random);
         this.observers = new ArrayList<>();
-        this.reward = createRandomReward();
+        this.reward = createRandomReward(random);
     }
     
     /**
      * Creates a random puzzle.
      * 
+     * @param random The generator to use
      * @return A random puzzle
      */
-    private Puzzle createRandomPuzzle() {
-        String[] riddles = {
-            "I speak without a mouth and hear without ears. I have no body, but I come alive with wind. What am I?:echo",
-            "The more you take, the more you leave behind. What am I?:footsteps",
-            "What has keys but no locks, space but no room, and you can enter but not go in?:keyboard",
-            "What gets wetter as it dries?:towel",
-            "I'm light as a feather, yet the strongest person can't hold me for more than a few minutes. What am I?:breath"
-        };
-        
-        int index = (int) (Math.random() * riddles.length);
-        String[] parts = riddles[index].split(":");
-        
-        return new RiddlePuzzle(parts[0], parts[1]);
+    private Puzzle createRandomPuzzle(Random random) {
+        List<RiddleTemplate> riddles = ContentCatalog.get().getRiddlePool("puzzle_riddles");
+        RiddleTemplate riddle = riddles.get(random.nextInt(riddles.size()));
+        return new RiddlePuzzle(riddle.getQuestion(), riddle.getAnswer());
     }
     
     /**
      * Creates a random reward for solving the puzzle.
      * 
+     * @param random The generator to use
      * @return A random artifact
      */
-    private Artifact createRandomReward() {
-        String[] artifacts = {
-            "Ancient Medallion:A medallion with strange symbols:0:5:0",
-            "Mystic Crystal:A glowing crystal that hums with power:10:0:0",
-            "Enchanted Ring:A ring that protects its wearer:0:0:5",
-            "Magical Amulet:An amulet that enhances abilities:5:3:2",
-            "Arcane Scepter:A powerful scepter crackling with energy:0:10:0"
-        };
-        
-        int index = (int) (Math.random() * artifacts.length);
-        String[] parts = artifacts[index].split(":");
-        
-        return new Artifact(
-            parts[0], 
-            parts[1], 
-            Integer.parseInt(parts[2]), 
-            Integer.parseInt(parts[3]), 
-            Integer.parseInt(parts[4])
-        );
+    private Artifact createRandomReward(Random random) {
+        List<ArtifactTemplate> rewards = ContentCatalog.get().getArtifactPool("puzzle_rewards");
+        return rewards.get(random.nextInt(rewards.size())).create();
     }
     
     @Override
     public String onEnter(Player player) {
         markVisited();
+        materialize();
         addObserver(player);
         
         if (solved) {
@@ -92,13 +92,14 @@ public class PuzzleRoom extends Room implements PuzzleSubject {
     }
     
     @Override
-    public String onInteract(Player player, String action) {
+    public String onInteract(Player player, Command command) {
+        materialize();
         if (solved) {
             return "The puzzle in this room has already been solved.";
         }
         
-        if (action.equalsIgnoreCase("solve") || action.startsWith("answer ")) {
-            String answer = action.startsWith("answer ") ? action.substring(7) : "";
+        if (command.is(Verb.SOLVE) || command.is(Verb.ANSWER)) {
+            String answer = command.getArgument();
             
             if (puzzle.attemptSolution(answer)) {
                 solved = true;
@@ -111,9 +112,9 @@ public class PuzzleRoom extends Room implements PuzzleSubject {
             } else {
                 return "That's not right. " + puzzle.getFailureMessage();
             }
-        } else if (action.equalsIgnoreCase("hint")) {
+        } else if (command.is(Verb.HINT)) {
             return puzzle.getHint();
-        } else if (action.equalsIgnoreCase("examine") || action.equalsIgnoreCase("look")) {
+        } else if (command.is(Verb.EXAMINE) || command.is(Verb.LOOK)) {
             return "You examine the puzzle more closely. " + puzzle.getDescription();
         }
         
@@ -131,6 +132,7 @@ public class PuzzleRoom extends Room implements PuzzleSubject {
     
     @Override
     public void addObserver(Player observer) {
+        materialize();
         if (!observers.contains(observer)) {
             observers.add(observer);
         }
@@ -138,11 +140,13 @@ public class PuzzleRoom extends Room implements PuzzleSubject {
     
     @Override
     public void removeObserver(Player observer) {
+        materialize();
         observers.remove(observer);
     }
     
     @Override
     public void notifyObservers(String message) {
+        materialize();
         for (Player observer : observers) {
             observer.update(this, message);
         }
@@ -2,6 +2,8 @@ package game.model.rooms;
 
 import game.model.Player;
 import game.model.Position;
+import game.model.command.Command;
+import game.model.command.Verb;
 
 /**
  * A regular room with no special features.
@@ -25,13 +27,13 @@ public class RegularRoom extends Room {
     }
     
     @Override
-    public String onInteract(Player player, String action) {
-        if (action.equalsIgnoreCase("look") || action.equalsIgnoreCase("examine")) {
+    public String onInteract(Player player, Command command) {
+        if (command.is(Verb.LOOK) || command.is(Verb.EXAMINE)) {
             return "You examine the room more closely. " + description + " There's nothing particularly interesting here.";
-        } else if (action.equalsIgnoreCase("search")) {
+        } else if (command.is(Verb.SEARCH)) {
             return "You search the room carefully, but find nothing of value.";
         }
         
-        return "There's nothing to " + action + " here.";
+        return "There's nothing to " + command.getText() + " here.";
     }
 }
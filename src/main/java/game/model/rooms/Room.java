@@ -2,6 +2,9 @@ package game.model.rooms;
 
 import game.model.Player;
 import game.model.Position;
+import game.model.command.Command;
+
+import java.util.function.Consumer;
 
 /**
  * Abstract base class for all room types.
@@ -11,6 +14,7 @@ public abstract class Room {
     protected RoomType type;
     protected String description;
     protected boolean visited;
+    private Consumer<Room> visitListener;
     
     /**
      * Creates a new room.
@@ -35,19 +39,31 @@ public abstract class Room {
     /**
      * Called when a player interacts with this room.
      * 
-     * @param player The player
-     * @param action The action to perform
+     * @param player  The player
+     * @param command The parsed command to perform
      * @return A message describing what happens
      */
-    public abstract String onInteract(Player player, String action);
+    public abstract String onInteract(Player player, Command command);
     
     /**
      * Marks this room as visited.
      */
     public void markVisited() {
+        if (!visited && visitListener != null) {
+            visitListener.accept(this);
+        }
         this.visited = true;
     }
     
+    /**
+     * Sets the listener told the first time this room is visited.
+     * 
+     * @param visitListener The listener, or null for none
+     */
+    public void setVisitListener(Consumer<Room> visitListener) {
+        this.visitListener = visitListener;
+    }
+    
     /**
      * Checks if this room has been visited.
      * 
@@ -1,12 +1,28 @@
 package game.model.rooms;
 
+import game.model.GameRandom;
 import game.model.Position;
 
 /**
  * Factory class for creating different types of rooms.
  * Implements the Factory Method pattern.
+ * Each room gets a content seed mixed from the world seed and its cell index,
+ * so its contents don't depend on the order rooms are created or entered in.
  */
 public class RoomFactory {
+    private final long worldSeed;
+    private final int width;
+    
+    /**
+     * Creates a new room factory.
+     * 
+     * @param worldSeed The labyrinth's seed
+     * @param width     Width of the labyrinth, used to number the cells
+     */
+    public RoomFactory(long worldSeed, int width) {
+        this.worldSeed = worldSeed;
+        this.width = width;
+    }
     
     /**
      * Creates a room of the specified type at the specified position.
@@ -16,19 +32,20 @@ public class RoomFactory {
      * @return The created room
      */
     public Room createRoom(RoomType type, Position position) {
+        long seed = GameRandom.mix(worldSeed, (long) position.getY() * width + position.getX());
         switch (type) {
             case REGULAR:
                 return new RegularRoom(position);
             case PUZZLE:
-                return new PuzzleRoom(position);
+                return new PuzzleRoom(position, seed);
             case TREASURE:
-                return new TreasureRoom(position);
+                return new TreasureRoom(position, seed);
             case MONSTER:
-                return new MonsterRoom(position);
+                return new MonsterRoom(position, seed);
             case TRAP:
-                return new TrapRoom(position);
+                return new TrapRoom(position, seed);
             case EXIT:
-                return new ExitRoom(position);
+                return new ExitRoom(position, seed);
             default:
                 // Default to regular room
                 return new RegularRoom(position);
@@ -1,27 +1,49 @@
 package game.model.rooms;
 
+import game.model.GameRandom;
 import game.model.Player;
 import game.model.Position;
+import game.model.command.Command;
+import game.model.command.Verb;
+import game.model.content.ContentCatalog;
+import game.model.content.RiddleTemplate;
+import game.model.content.TrapTemplate;
 import game.model.traps.ActiveTrapState;
 import game.model.traps.HiddenTrapState;
 import game.model.traps.Trap;
+import game.monitoring.TrapTriggerEvent;
 
+import java.util.List;
 import java.util.Random;
 
 /**
  * A room containing a trap that can harm the player.
+ * The trap is created from the room's content seed the first time it is needed.
  */
 public class TrapRoom extends Room {
-    private Trap trap;
+    private final long contentSeed;
+    private Trap trap; // Null until the room's contents are created
     
     /**
      * Creates a new trap room.
      * 
-     * @param position The room's position
+     * @param position    The room's position
+     * @param contentSeed Seed the room's contents are created from
      */
-    public TrapRoom(Position position) {
+    public TrapRoom(Position position, long contentSeed) {
         super(RoomType.TRAP, position);
-        this.trap = generateRandomTrap();
+        this.contentSeed = contentSeed;
+    }
+    
+    /**
+     * Creates the trap if it doesn't exist yet.
+     */
+    private void materialize() {
+        if (trap != null) {
+            return;
+        }
+        
+        this.trap = generateRandomTrap(new Random(contentSeed));
         this.description = "A room that feels somehow off. " + 
                           (trap.getState() instanceof HiddenTrapState ? 
                            "There's an uneasy feeling in the air." :
@@ -29,27 +51,14 @@ public class TrapRoom extends Room {
     }
     
     /**
-     * Generates a random trap.
+     * Generates a random trap from the catalog's trap pool.
      * 
+     * @param random The generator to use
      * @return The generated trap
      */
-    private Trap generateRandomTrap() {
-        String[] trapTypes = {
-            "Spike Pit:A pit filled with sharp spikes:20",
-            "Poison Dart:A trap that shoots poisonous darts:15",
-            "Fire Geyser:A geyser that erupts with fire:25",
-            "Crushing Ceiling:A ceiling that lowers to crush intruders:30",
-            "Acid Spray:A trap that sprays corrosive acid:18"
-        };
-        
-        Random random = new Random();
-        String[] trapData = trapTypes[random.nextInt(trapTypes.length)].split(":");
-        
-        String name = trapData[0];
-        String description = trapData[1];
-        int damage = Integer.parseInt(trapData[2]);
-        
-        Trap trap = new Trap(name, description, damage);
+    private Trap generateRandomTrap(Random random) {
+        List<TrapTemplate> traps = ContentCatalog.get().getTrapPool("room_traps");
+        Trap trap = traps.get(random.nextInt(traps.size())).create();
         
         // 70% chance the trap is hidden
         if (random.nextDouble() < 0.7) {
@@ -64,12 +73,13 @@ public class TrapRoom extends Room {
     @Override
     public String onEnter(Player player) {
         markVisited();
+        materialize();
         
         StringBuilder result = new StringBuilder();
         result.append("You enter ").append(description).append("\n");
         
         // Check if the player triggers the trap
-        if (trap.isActive() || (trap.isHidden() && Math.random() < 0.7)) {
+        if (trap.isActive() || (trap.isHidden() && GameRandom.nextDouble() < 0.7)) {
             if (trap.isHidden()) {
                 trap.setActive();
                 result.append("You've triggered a hidden trap! ");
@@ -80,19 +90,12 @@ public class TrapRoom extends Room {
             // ВСЕГДА срабатывает
             player.setTrapped(true);
 
-            String[][] riddles = {
-                    {"What gets wetter as it dries?", "towel"},
-                    {"I’m tall when I’m young and short when I’m old. What am I?", "candle"},
-                    {"What has hands but can’t clap?", "clock"},
-                    {"The more you take, the more you leave behind. What am I?", "footsteps"},
-                    {"What has to be broken before you can use it?", "egg"}
-            };
-            Random r = new Random();
-            int index = r.nextInt(riddles.length);
-            player.setTrapPuzzle(riddles[index][0], riddles[index][1]);
+            List<RiddleTemplate> riddles = ContentCatalog.get().getRiddlePool("trap_riddles");
+            RiddleTemplate riddle = riddles.get(GameRandom.current().nextInt(riddles.size()));
+            player.setTrapPuzzle(riddle.getQuestion(), riddle.getAnswer());
             result.append("\nYou are trapped! Solve the puzzle: ").append(player.getTrapRiddle());
 
-            boolean playerAlive = player.takeDamage(trap.getDamage());
+            boolean playerAlive = hurtPlayer(player, trap.getDamage(), "enter");
             result.append("\nThe ").append(trap.getName())
                     .append(" deals ").append(trap.getDamage())
                     .append(" damage to you!");
@@ -107,12 +110,12 @@ public class TrapRoom extends Room {
     }
     
     @Override
-    public String onInteract(Player player, String action) {
-        if (action.equalsIgnoreCase("examine") || action.equalsIgnoreCase("look") || 
-            action.equalsIgnoreCase("inspect")) {
+    public String onInteract(Player player, Command command) {
+        materialize();
+        if (command.is(Verb.EXAMINE) || command.is(Verb.LOOK)) {
             
             // Higher chance to spot a hidden trap
-            if (trap.isHidden() && Math.random() < 0.6) {
+            if (trap.isHidden() && GameRandom.nextDouble() < 0.6) {
                 trap.reveal();
                 return "You carefully examine the room and discover a hidden " + trap.getName() + 
                        "! " + trap.getDescription();
@@ -123,7 +126,7 @@ public class TrapRoom extends Room {
             } else { // Disabled
                 return "You examine the disabled " + trap.getName() + ". " + trap.getDescription();
             }
-        } else if (action.equalsIgnoreCase("disarm") || action.equalsIgnoreCase("disable")) {
+        } else if (command.is(Verb.DISARM)) {
             if (trap.isDisabled()) {
                 return "The trap is already disabled.";
             }
@@ -133,12 +136,12 @@ public class TrapRoom extends Room {
             }
             
             // 50% chance to disarm if active
-            if (trap.isActive() && Math.random() < 0.5) {
+            if (trap.isActive() && GameRandom.nextDouble() < 0.5) {
                 trap.disable();
                 return "You successfully disarm the " + trap.getName() + "!";
             } else if (trap.isActive()) {
                 // Trap triggers when disarm fails
-                boolean playerAlive = player.takeDamage(trap.getDamage());
+                boolean playerAlive = hurtPlayer(player, trap.getDamage(), "disarm");
                 String result = "You fail to disarm the trap and trigger it! The " + 
                                trap.getName() + " deals " + trap.getDamage() + " damage to you!";
                 
@@ -148,11 +151,10 @@ public class TrapRoom extends Room {
                 
                 return result;
             }
-        } else if (action.equalsIgnoreCase("avoid") || action.equalsIgnoreCase("jump over") ||
-                   action.equalsIgnoreCase("bypass")) {
+        } else if (command.is(Verb.AVOID)) {
             if (trap.isHidden()) {
                 // Can't avoid what you don't know exists
-                boolean playerAlive = player.takeDamage(trap.getDamage());
+                boolean playerAlive = hurtPlayer(player, trap.getDamage(), "avoid");
                 trap.setActive(); // Now it's revealed
                 String result = "As you move through the room, you trigger a hidden " + 
                                 trap.getName() + "! It deals " + trap.getDamage() + " damage to you!";
@@ -162,10 +164,10 @@ public class TrapRoom extends Room {
                 }
                 
                 return result;
-            } else if (trap.isActive() && Math.random() < 0.7) { // 70% chance to avoid known trap
+            } else if (trap.isActive() && GameRandom.nextDouble() < 0.7) { // 70% chance to avoid known trap
                 return "You carefully avoid the " + trap.getName() + " and pass safely.";
             } else if (trap.isActive()) {
-                boolean playerAlive = player.takeDamage(trap.getDamage() / 2); // Take reduced damage
+                boolean playerAlive = hurtPlayer(player, trap.getDamage() / 2, "avoid"); // Take reduced damage
                 String result = "You try to avoid the " + trap.getName() + 
                                 " but partially trigger it! You take " + (trap.getDamage() / 2) + " damage!";
                 
@@ -183,11 +185,41 @@ public class TrapRoom extends Room {
     }
     
     /**
-     * Gets the trap in this room.
+     * Deals trap damage to the player and reports it to Flight Recorder.
+     * 
+     * @param player The player
+     * @param damage The damage to deal
+     * @param cause  What set the trap off
+     * @return true if the player survived, false otherwise
+     */
+    private boolean hurtPlayer(Player player, int damage, String cause) {
+        boolean playerAlive = player.takeDamage(damage);
+        
+        TrapTriggerEvent event = new TrapTriggerEvent();
+        if (event.shouldCommit()) {
+            event.trap = trap.getName();
+            event.cause = cause;
+            event.damage = damage;
+            event.fatal = !playerAlive;
+            event.commit();
+        }
+        
+        return playerAlive;
+    }
+    
+    /**
+     * Gets the trap in this room, creating it if needed.
      * 
      * @return The trap
      */
     public Trap getTrap() {
+        materialize();
         return trap;
     }
+    
+    @Override
+    public String getDescription() {
+        materialize();
+        return description;
+    }
 }
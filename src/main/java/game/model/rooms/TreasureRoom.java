@@ -3,6 +3,10 @@ package game.model.rooms;
 import game.model.Artifact;
 import game.model.Player;
 import game.model.Position;
+import game.model.command.Command;
+import game.model.command.Verb;
+import game.model.content.ArtifactTemplate;
+import game.model.content.ContentCatalog;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -10,84 +14,62 @@ import java.util.Random;
 
 /**
  * A room containing treasures and artifacts.
+ * The artifacts are created from the room's content seed the first time they are needed.
  */
 public class TreasureRoom extends Room {
-    private List<Artifact> artifacts;
+    private final long contentSeed;
+    private List<Artifact> artifacts; // Null until the room's contents are created
     private boolean looted;
     
     /**
      * Creates a new treasure room.
      * 
-     * @param position The room's position
+     * @param position    The room's position
+     * @param contentSeed Seed the room's contents are created from
      */
-    public TreasureRoom(Position position) {
+    public TreasureRoom(Position position, long contentSeed) {
         super(RoomType.TREASURE, position);
         this.description = "A room filled with glittering treasures and ancient artifacts.";
-        this.artifacts = generateArtifacts();
+        this.contentSeed = contentSeed;
         this.looted = false;
     }
     
+    /**
+     * Creates the artifacts if they don't exist yet.
+     */
+    private void materialize() {
+        if (artifacts == null) {
+            artifacts = generateArtifacts(new Random(contentSeed));
+        }
+    }
+    
     /**
      * Generates random artifacts for this room.
      * 
+     * @param random The generator to use
      * @return List of generated artifacts
      */
-    private List<Artifact> generateArtifacts() {
+    private List<Artifact> generateArtifacts(Random random) {
         List<Artifact> result = new ArrayList<>();
-        Random random = new Random();
-        
-        // Common artifacts
-        String[][] commonArtifacts = {
-            {"Health Potion", "A red potion that restores health", "20", "0", "0"},
-            {"Strength Elixir", "A potion that temporarily increases strength", "0", "5", "0"},
-            {"Shield Charm", "A charm that enhances defensive capabilities", "0", "0", "3"},
-            {"Minor Healing Scroll", "A scroll that heals minor wounds", "10", "0", "0"}
-        };
-        
-        // Rare artifacts
-        String[][] rareArtifacts = {
-            {"Dragonscale Amulet", "An amulet made from dragon scales", "15", "5", "10"},
-            {"Enchanted Sword", "A sword imbued with magical energy", "0", "15", "0"},
-            {"Mage's Staff", "A staff that enhances magical abilities", "10", "10", "5"},
-            {"Blessed Shield", "A shield blessed by the gods", "0", "0", "20"}
-        };
-        
-        // Key artifacts (for puzzle rooms or locked doors)
-        String[][] keyArtifacts = {
-            {"Golden Key", "A key that seems important", "golden_lock"},
-            {"Crystal Key", "A key made of pure crystal", "crystal_lock"},
-            {"Runic Key", "A key with strange runes inscribed", "runic_lock"}
-        };
+        ContentCatalog catalog = ContentCatalog.get();
         
         // Add 1-3 common artifacts
+        List<ArtifactTemplate> common = catalog.getArtifactPool("treasure_common");
         int commonCount = random.nextInt(3) + 1;
         for (int i = 0; i < commonCount; i++) {
-            String[] artifact = commonArtifacts[random.nextInt(commonArtifacts.length)];
-            result.add(new Artifact(
-                artifact[0],
-                artifact[1],
-                Integer.parseInt(artifact[2]),
-                Integer.parseInt(artifact[3]),
-                Integer.parseInt(artifact[4])
-            ));
+            result.add(common.get(random.nextInt(common.size())).create());
         }
         
         // Small chance for a rare artifact
         if (random.nextDouble() < 0.3) {
-            String[] artifact = rareArtifacts[random.nextInt(rareArtifacts.length)];
-            result.add(new Artifact(
-                artifact[0],
-                artifact[1],
-                Integer.parseInt(artifact[2]),
-                Integer.parseInt(artifact[3]),
-                Integer.parseInt(artifact[4])
-            ));
+            List<ArtifactTemplate> rare = catalog.getArtifactPool("treasure_rare");
+            result.add(rare.get(random.nextInt(rare.size())).create());
         }
         
-        // Small chance for a key
+        // Small chance for a key (for puzzle rooms or locked doors)
         if (random.nextDouble() < 0.2) {
-            String[] key = keyArtifacts[random.nextInt(keyArtifacts.length)];
-            result.add(new Artifact(key[0], key[1], key[2]));
+            List<ArtifactTemplate> keys = catalog.getArtifactPool("treasure_keys");
+            result.add(keys.get(random.nextInt(keys.size())).create());
         }
         
         return result;
@@ -96,6 +78,7 @@ public class TreasureRoom extends Room {
     @Override
     public String onEnter(Player player) {
         markVisited();
+        materialize();
         
         if (looted) {
             return "You enter a treasure room that has already been looted. " + description + " But all treasures have been taken.";
@@ -105,13 +88,13 @@ public class TreasureRoom extends Room {
     }
     
     @Override
-    public String onInteract(Player player, String action) {
+    public String onInteract(Player player, Command command) {
+        materialize();
         if (looted) {
             return "This room has already been looted.";
         }
         
-        if (action.equalsIgnoreCase("loot") || action.equalsIgnoreCase("take treasure") || 
-            action.equalsIgnoreCase("collect") || action.equalsIgnoreCase("gather")) {
+        if (command.is(Verb.TAKE)) {
             
             StringBuilder result = new StringBuilder("You collect the following items:\n");
             
@@ -122,7 +105,7 @@ public class TreasureRoom extends Room {
             
             looted = true;
             return result.toString().trim();
-        } else if (action.equalsIgnoreCase("examine") || action.equalsIgnoreCase("look")) {
+        } else if (command.is(Verb.EXAMINE) || command.is(Verb.LOOK)) {
             StringBuilder result = new StringBuilder("You see the following treasures:\n");
             
             for (Artifact artifact : artifacts) {
@@ -150,6 +133,7 @@ public class TreasureRoom extends Room {
      * @return List of artifacts
      */
     public List<Artifact> getArtifacts() {
+        materialize();
         return new ArrayList<>(artifacts);
     }
 }
@@ -0,0 +1,8 @@
+package game.model.stats;
+
+/**
+ * Enum representing the player stats that modifiers can change.
+ */
+public enum Stat {
+    MAX_HEALTH, ATTACK, DEFENSE
+}
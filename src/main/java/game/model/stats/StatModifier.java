@@ -0,0 +1,109 @@
+package game.model.stats;
+
+/**
+ * An immutable change to one or more stats, such as an artifact's bonuses,
+ * the gains from levelling up or a temporary effect. A modifier either adds flat
+ * amounts or scales the stats by a percentage, see {@link #percent}.
+ */
+public final class StatModifier {
+    /** Duration of a modifier that lasts until it is removed. */
+    public static final int PERMANENT = -1;
+
+    /**
+     * Where a modifier comes from. Modifiers can be removed or replaced by source.
+     */
+    public enum Source {
+        ARTIFACT, LEVEL, STANCE, EFFECT
+    }
+
+    private final Source source;
+    private final Object origin; // The object that granted the modifier, used to remove it again
+    private final int[] amounts;
+    private final boolean percent; // Whether the amounts are percentages rather than flat changes
+    private final int duration;
+
+    /**
+     * Creates a new modifier.
+     *
+     * @param source    Where the modifier comes from
+     * @param origin    The object that granted it, or null
+     * @param maxHealth Change to maximum health
+     * @param attack    Change to attack
+     * @param defense   Change to defense
+     * @param duration  Number of turns it lasts, or {@link #PERMANENT}
+     */
+    public StatModifier(Source source, Object origin, int maxHealth, int attack, int defense, int duration) {
+        this(source, origin, maxHealth, attack, defense, false, duration);
+    }
+
+    private StatModifier(Source source, Object origin, int maxHealth, int attack, int defense, boolean percent,
+                         int duration) {
+        this.source = source;
+        this.origin = origin;
+        this.amounts = new int[Stat.values().length];
+        this.amounts[Stat.MAX_HEALTH.ordinal()] = maxHealth;
+        this.amounts[Stat.ATTACK.ordinal()] = attack;
+        this.amounts[Stat.DEFENSE.ordinal()] = defense;
+        this.percent = percent;
+        this.duration = duration;
+    }
+
+    /**
+     * Creates a modifier that scales stats by a percentage, such as a combat stance.
+     * Percentages apply after every flat modifier and round down.
+     *
+     * @param source    Where the modifier comes from
+     * @param origin    The object that granted it, or null
+     * @param maxHealth Percent added to maximum health
+     * @param attack    Percent added to attack
+     * @param defense   Percent added to defense
+     * @param duration  Number of turns it lasts, or {@link #PERMANENT}
+     * @return The new modifier
+     */
+    public static StatModifier percent(Source source, Object origin, int maxHealth, int attack, int defense,
+                                       int duration) {
+        return new StatModifier(source, origin, maxHealth, attack, defense, true, duration);
+    }
+
+    /**
+     * Gets the change this modifier makes to a stat.
+     *
+     * @param stat The stat
+     * @return The amount added to the stat, or the percent added if {@link #isPercent()}
+     */
+    public int getAmount(Stat stat) {
+        return amounts[stat.ordinal()];
+    }
+
+    /**
+     * Checks if this modifier scales stats rather than adding to them.
+     *
+     * @return true if the amounts are percentages, false if they are flat
+     */
+    public boolean isPercent() {
+        return percent;
+    }
+
+    /**
+     * Checks if this modifier lasts until it is removed.
+     *
+     * @return true if permanent, false if it expires
+     */
+    public boolean isPermanent() {
+        return duration == PERMANENT;
+    }
+
+    // Getters
+
+    public Source getSource() {
+        return source;
+    }
+
+    public Object getOrigin() {
+        return origin;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+}
@@ -0,0 +1,163 @@
+package game.model.stats;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A set of base stats and the modifiers applied on top of them: flat modifiers
+ * first, then percentages. Derived values are cached and only recomputed after the modifiers change,
+ * so reading a stat during combat is an array lookup.
+ */
+public class Stats {
+    private static final Stat[] STATS = Stat.values();
+
+    private final int[] base;
+    private final int[] derived;
+    private final int[] percents; // Scratch space for the percentages summed in recompute
+    private final List<Active> active;
+    private int turn;
+    private int version;
+    private int derivedVersion;
+
+    /**
+     * Creates a new set of stats with no modifiers.
+     *
+     * @param maxHealth Base maximum health
+     * @param attack    Base attack
+     * @param defense   Base defense
+     */
+    public Stats(int maxHealth, int attack, int defense) {
+        this.base = new int[STATS.length];
+        this.base[Stat.MAX_HEALTH.ordinal()] = maxHealth;
+        this.base[Stat.ATTACK.ordinal()] = attack;
+        this.base[Stat.DEFENSE.ordinal()] = defense;
+        this.derived = new int[STATS.length];
+        this.percents = new int[STATS.length];
+        this.active = new ArrayList<>();
+        this.turn = 0;
+        this.version = 0;
+        this.derivedVersion = -1;
+    }
+
+    /**
+     * Gets the value of a stat with all modifiers applied.
+     *
+     * @param stat The stat
+     * @return The derived value
+     */
+    public int get(Stat stat) {
+        if (derivedVersion != version) {
+            recompute();
+        }
+        return derived[stat.ordinal()];
+    }
+
+    /**
+     * Gets the value of a stat before modifiers.
+     *
+     * @param stat The stat
+     * @return The base value
+     */
+    public int getBase(Stat stat) {
+        return base[stat.ordinal()];
+    }
+
+    /**
+     * Adds a modifier. Modifiers with a duration expire after that many turns.
+     *
+     * @param modifier The modifier to add
+     */
+    public void add(StatModifier modifier) {
+        active.add(new Active(modifier, modifier.isPermanent() ? -1 : turn + modifier.getDuration()));
+        version++;
+    }
+
+    /**
+     * Removes every modifier from a source and adds a new one in their place.
+     * Used for modifiers that are recalculated rather than stacked, such as levels.
+     *
+     * @param modifier The replacement modifier
+     */
+    public void replace(StatModifier modifier) {
+        removeSource(modifier.getSource());
+        add(modifier);
+    }
+
+    /**
+     * Removes every modifier from a source.
+     *
+     * @param source The source to remove
+     */
+    public void removeSource(StatModifier.Source source) {
+        if (active.removeIf(a -> a.modifier.getSource() == source)) {
+            version++;
+        }
+    }
+
+    /**
+     * Advances one turn and removes the modifiers that have run out.
+     *
+     * @return true if any modifier expired, false otherwise
+     */
+    public boolean tick() {
+        turn++;
+        boolean expired = active.removeIf(a -> a.expiresOn >= 0 && a.expiresOn <= turn);
+        if (expired) {
+            version++;
+        }
+        return expired;
+    }
+
+    /**
+     * Gets the active modifiers in the order they were added.
+     *
+     * @return An unmodifiable list of the modifiers
+     */
+    public List<StatModifier> getModifiers() {
+        List<StatModifier> modifiers = new ArrayList<>(active.size());
+        for (Active a : active) {
+            modifiers.add(a.modifier);
+        }
+        return Collections.unmodifiableList(modifiers);
+    }
+
+    /**
+     * Gets a counter that changes whenever the modifiers change.
+     *
+     * @return The current version
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    private void recompute() {
+        System.arraycopy(base, 0, derived, 0, base.length);
+        Arrays.fill(percents, 0);
+        for (Active a : active) {
+            int[] target = a.modifier.isPercent() ? percents : derived;
+            for (Stat stat : STATS) {
+                target[stat.ordinal()] += a.modifier.getAmount(stat);
+            }
+        }
+        for (Stat stat : STATS) {
+            int i = stat.ordinal();
+            derived[i] += derived[i] * percents[i] / 100;
+        }
+        derivedVersion = version;
+    }
+
+    /**
+     * A modifier together with the turn it expires on.
+     */
+    private static final class Active {
+        private final StatModifier modifier;
+        private final int expiresOn; // -1 if the modifier is permanent
+
+        private Active(StatModifier modifier, int expiresOn) {
+            this.modifier = modifier;
+            this.expiresOn = expiresOn;
+        }
+    }
+}
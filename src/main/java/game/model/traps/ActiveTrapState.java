@@ -1,5 +1,7 @@
 package game.model.traps;
 
+import game.model.GameRandom;
+
 /**
  * Represents a trap in an active state, ready to be triggered.
  * Part of the State pattern implementation.
@@ -25,7 +27,7 @@ public class ActiveTrapState implements TrapState {
     @Override
     public boolean disarm() {
         // 70% chance to successfully disarm
-        if (Math.random() < 0.7) {
+        if (GameRandom.nextDouble() < 0.7) {
             trap.disable();
             return true;
         }
@@ -0,0 +1,26 @@
+package game.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering a complete fight between the player and an enemy.
+ */
+@Name("game.Combat")
+@Label("Combat")
+@Category({"Magical Labyrinth", "Model"})
+@Description("A fight between the player and an enemy")
+public class CombatEvent extends Event {
+    @Label("Enemy")
+    public String enemy;
+
+    @Label("Rounds")
+    public int rounds;
+
+    @Label("Outcome")
+    @Description("VICTORY or DEFEAT")
+    public String outcome;
+}
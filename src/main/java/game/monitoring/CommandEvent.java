@@ -0,0 +1,23 @@
+package game.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering the processing of one player command.
+ * The event duration is the command latency, including the end-of-turn checks.
+ */
+@Name("game.Command")
+@Label("Command")
+@Category({"Magical Labyrinth", "Controller"})
+@Description("Processing of a player command")
+public class CommandEvent extends Event {
+    @Label("Verb")
+    public String verb;
+
+    @Label("Text")
+    public String text;
+}
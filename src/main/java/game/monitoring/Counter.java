@@ -0,0 +1,42 @@
+package game.monitoring;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A monotonically increasing counter. Increments are striped across cells,
+ * so many threads can count at once without contending on a single value.
+ */
+public class Counter {
+    private final String name;
+    private final LongAdder value = new LongAdder();
+
+    Counter(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Adds one to the counter.
+     */
+    public void increment() {
+        value.increment();
+    }
+
+    /**
+     * Adds an amount to the counter.
+     *
+     * @param amount The amount to add
+     */
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    // Getters
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return value.sum();
+    }
+}
@@ -0,0 +1,25 @@
+package game.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering one repaint of the map.
+ */
+@Name("game.FrameRender")
+@Label("Frame Render")
+@Category({"Magical Labyrinth", "View"})
+@Description("Rendering of one frame of the map")
+public class FrameRenderEvent extends Event {
+    @Label("Cells Drawn")
+    public int cellsDrawn;
+
+    @Label("Width")
+    public int width;
+
+    @Label("Height")
+    public int height;
+}
@@ -0,0 +1,264 @@
+package game.monitoring;
+
+import game.model.content.ContentCatalog;
+import game.model.rooms.RoomType;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Publishes the state of the running game over JMX, as the MBeans
+ * game:type=Labyrinth, game:type=Player and game:type=Session.
+ *
+ * The controller hands over an immutable {@link GameSnapshot} after every command;
+ * attribute reads only look at the latest snapshot and the lock-free metrics,
+ * so they are cheap and never wait for the game thread.
+ */
+public class GameMonitor {
+    private final MetricsRegistry metrics;
+    private final Counter commands;
+    private final Histogram commandLatency;
+    private final Histogram frameRender;
+    private volatile GameSnapshot snapshot;
+
+    /**
+     * Creates a monitor reading metrics from the given registry.
+     *
+     * @param metrics The metrics registry
+     */
+    public GameMonitor(MetricsRegistry metrics) {
+        this.metrics = metrics;
+        this.commands = metrics.counter(MetricsRegistry.COMMANDS);
+        this.commandLatency = metrics.histogram(MetricsRegistry.COMMAND_LATENCY);
+        this.frameRender = metrics.histogram(MetricsRegistry.FRAME_RENDER);
+    }
+
+    /**
+     * Replaces the published game state.
+     *
+     * @param snapshot The latest snapshot
+     */
+    public void publish(GameSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Registers the MBeans with the platform MBean server.
+     *
+     * @return true if the MBeans were registered, false otherwise
+     */
+    public boolean register() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(new LabyrinthBean(), new ObjectName("game:type=Labyrinth"));
+            server.registerMBean(new PlayerBean(), new ObjectName("game:type=Player"));
+            server.registerMBean(new SessionBean(), new ObjectName("game:type=Session"));
+            return true;
+        } catch (JMException e) {
+            System.err.println("Could not register game MBeans: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Writes a snapshot as a plain-text file.
+     *
+     * @param snapshot The snapshot to write
+     * @param path     The file to write
+     * @throws IOException If the file cannot be written
+     */
+    public static void writeSnapshot(GameSnapshot snapshot, Path path) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+            out.println("time=" + Instant.ofEpochMilli(snapshot.getTimestamp()));
+            out.println("seed=" + snapshot.getSeed());
+            out.println("size=" + snapshot.getWidth() + "x" + snapshot.getHeight());
+            out.println("rooms=" + snapshot.getRoomCounts());
+            out.println("visitedRooms=" + snapshot.getVisitedRooms());
+            out.println("enemiesRemaining=" + snapshot.getEnemiesRemaining());
+            out.println("player=" + snapshot.getPlayerName());
+            out.println("health=" + snapshot.getHealth() + "/" + snapshot.getMaxHealth());
+            out.println("attack=" + snapshot.getAttack());
+            out.println("defense=" + snapshot.getDefense());
+            out.println("level=" + snapshot.getLevel());
+            out.println("experience=" + snapshot.getExperience());
+            out.println("position=" + snapshot.getX() + "," + snapshot.getY());
+            out.println("remainingMoves=" + snapshot.getRemainingMoves());
+            out.println("trapped=" + snapshot.isTrapped());
+            out.println("inventorySize=" + snapshot.getInventorySize());
+            out.println("gameRunning=" + snapshot.isGameRunning());
+        }
+    }
+
+    private GameSnapshot current() {
+        GameSnapshot current = snapshot;
+        if (current == null) {
+            throw new IllegalStateException("No game session has started yet");
+        }
+        return current;
+    }
+
+    private static Path outputPath(String path, String prefix) {
+        if (path == null || path.trim().isEmpty()) {
+            return Paths.get(prefix + "-" + System.currentTimeMillis() + ".txt");
+        }
+        return Paths.get(path.trim());
+    }
+
+    private class LabyrinthBean implements LabyrinthMXBean {
+        @Override
+        public int getWidth() {
+            return current().getWidth();
+        }
+
+        @Override
+        public int getHeight() {
+            return current().getHeight();
+        }
+
+        @Override
+        public long getSeed() {
+            return current().getSeed();
+        }
+
+        @Override
+        public Map<String, Integer> getRoomsByType() {
+            Map<String, Integer> rooms = new LinkedHashMap<>();
+            for (Map.Entry<RoomType, Integer> entry : current().getRoomCounts().entrySet()) {
+                rooms.put(entry.getKey().name(), entry.getValue());
+            }
+            return rooms;
+        }
+
+        @Override
+        public int getVisitedRooms() {
+            return current().getVisitedRooms();
+        }
+
+        @Override
+        public int getEnemiesRemaining() {
+            return current().getEnemiesRemaining();
+        }
+    }
+
+    private class PlayerBean implements PlayerMXBean {
+        @Override
+        public String getName() {
+            return current().getPlayerName();
+        }
+
+        @Override
+        public int getHealth() {
+            return current().getHealth();
+        }
+
+        @Override
+        public int getMaxHealth() {
+            return current().getMaxHealth();
+        }
+
+        @Override
+        public int getLevel() {
+            return current().getLevel();
+        }
+
+        @Override
+        public int getExperience() {
+            return current().getExperience();
+        }
+
+        @Override
+        public int getRemainingMoves() {
+            return current().getRemainingMoves();
+        }
+
+        @Override
+        public String getPosition() {
+            GameSnapshot current = current();
+            return "(" + current.getX() + ", " + current.getY() + ")";
+        }
+
+        @Override
+        public boolean isTrapped() {
+            return current().isTrapped();
+        }
+    }
+
+    private class SessionBean implements SessionMXBean {
+        // Frame rate is measured between consecutive reads
+        private long lastFrames;
+        private long lastReadNanos = System.nanoTime();
+        private double fps;
+
+        @Override
+        public boolean isGameRunning() {
+            GameSnapshot current = snapshot;
+            return current != null && current.isGameRunning();
+        }
+
+        @Override
+        public long getCommandsProcessed() {
+            return commands.getCount();
+        }
+
+        @Override
+        public double getAverageCommandLatencyMillis() {
+            return commandLatency.getMean() / 1e6;
+        }
+
+        @Override
+        public synchronized double getRenderFps() {
+            long now = System.nanoTime();
+            long frames = frameRender.getCount();
+            double seconds = (now - lastReadNanos) / 1e9;
+            if (seconds >= 1.0) {
+                fps = (frames - lastFrames) / seconds;
+                lastFrames = frames;
+                lastReadNanos = now;
+            }
+            return fps;
+        }
+
+        @Override
+        public String saveSnapshot(String path) {
+            Path file = outputPath(path, "snapshot");
+            try {
+                writeSnapshot(current(), file);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not write snapshot to " + file, e);
+            }
+            return file.toAbsolutePath().toString();
+        }
+
+        @Override
+        public String dumpMetrics(String path) {
+            Path file = outputPath(path, "metrics");
+            try {
+                metrics.dump(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not write metrics to " + file, e);
+            }
+            return file.toAbsolutePath().toString();
+        }
+
+        @Override
+        public String reloadContent() {
+            try {
+                return "Loaded " + ContentCatalog.reload();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not reload content, keeping the current catalog", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package game.monitoring;
+
+import game.model.rooms.RoomType;
+
+import java.util.Map;
+
+/**
+ * Immutable picture of a game session, published by the controller after every command.
+ * Monitoring code reads the latest snapshot instead of touching the live model,
+ * so it never blocks or races with the game thread.
+ */
+public class GameSnapshot {
+    private final long seed;
+    private final int width;
+    private final int height;
+    private final Map<RoomType, Integer> roomCounts;
+    private final int visitedRooms;
+    private final int enemiesRemaining;
+    private final String playerName;
+    private final int health;
+    private final int maxHealth;
+    private final int attack;
+    private final int defense;
+    private final int level;
+    private final int experience;
+    private final int remainingMoves;
+    private final int x;
+    private final int y;
+    private final boolean trapped;
+    private final int inventorySize;
+    private final boolean gameRunning;
+    private final long timestamp;
+
+    /**
+     * Creates a snapshot. The room counts map must not be modified afterwards.
+     */
+    public GameSnapshot(long seed, int width, int height, Map<RoomType, Integer> roomCounts,
+                        int visitedRooms, int enemiesRemaining, String playerName,
+                        int health, int maxHealth, int attack, int defense, int level, int experience,
+                        int remainingMoves, int x, int y, boolean trapped, int inventorySize,
+                        boolean gameRunning) {
+        this.seed = seed;
+        this.width = width;
+        this.height = height;
+        this.roomCounts = roomCounts;
+        this.visitedRooms = visitedRooms;
+        this.enemiesRemaining = enemiesRemaining;
+        this.playerName = playerName;
+        this.health = health;
+        this.maxHealth = maxHealth;
+        this.attack = attack;
+        this.defense = defense;
+        this.level = level;
+        this.experience = experience;
+        this.remainingMoves = remainingMoves;
+        this.x = x;
+        this.y = y;
+        this.trapped = trapped;
+        this.inventorySize = inventorySize;
+        this.gameRunning = gameRunning;
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    // Getters
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public Map<RoomType, Integer> getRoomCounts() {
+        return roomCounts;
+    }
+
+    public int getVisitedRooms() {
+        return visitedRooms;
+    }
+
+    public int getEnemiesRemaining() {
+        return enemiesRemaining;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public int getHealth() {
+        return health;
+    }
+
+    public int getMaxHealth() {
+        return maxHealth;
+    }
+
+    public int getAttack() {
+        return attack;
+    }
+
+    public int getDefense() {
+        return defense;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getExperience() {
+        return experience;
+    }
+
+    public int getRemainingMoves() {
+        return remainingMoves;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public boolean isTrapped() {
+        return trapped;
+    }
+
+    public int getInventorySize() {
+        return inventorySize;
+    }
+
+    public boolean isGameRunning() {
+        return gameRunning;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+}
@@ -0,0 +1,50 @@
+package game.monitoring;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Feeds garbage collection pauses into the metrics registry, using the
+ * notifications the collectors send after each collection.
+ */
+public final class GcPauseMonitor {
+    private static boolean installed;
+
+    private GcPauseMonitor() {
+    }
+
+    /**
+     * Starts recording GC pause durations into the {@link MetricsRegistry#GC_PAUSE} histogram.
+     * Calling this more than once has no further effect.
+     *
+     * @param registry The registry to record into
+     */
+    public static synchronized void install(MetricsRegistry registry) {
+        if (installed) {
+            return;
+        }
+        installed = true;
+
+        Histogram pauses = registry.histogram(MetricsRegistry.GC_PAUSE);
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (!(collector instanceof NotificationEmitter)) {
+                continue;
+            }
+            ((NotificationEmitter) collector).addNotificationListener((notification, handback) -> {
+                if (!notification.getType().equals(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION)) {
+                    return;
+                }
+                GarbageCollectionNotificationInfo info =
+                        GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                // Concurrent cycles are reported too, but they do not stop the game
+                if (info.getGcAction().contains("major") || info.getGcAction().contains("minor")) {
+                    pauses.record(info.getGcInfo().getDuration() * 1_000_000L);
+                }
+            }, null, null);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package game.monitoring;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of non-negative values, usually durations in nanoseconds.
+ *
+ * Values are counted in log-linear buckets in the style of HdrHistogram: every power
+ * of two is split into {@value #SUB_BUCKETS} equal buckets, so any recorded value is
+ * reported with a relative error of at most about 6%. Recording is a handful of
+ * atomic increments and never allocates.
+ */
+public class Histogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final String name;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    Histogram(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records a value. Negative values are recorded as zero.
+     *
+     * @param value The value to record
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+
+        buckets.incrementAndGet(bucketIndex(value));
+        count.increment();
+        sum.add(value);
+
+        long currentMax = max.get();
+        while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * Records the time elapsed since a start time taken from {@link System#nanoTime()}.
+     *
+     * @param startNanos The start time
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Gets the value below which the given fraction of recorded values fall.
+     *
+     * @param percentile The percentile, between 0.0 and 100.0
+     * @return The upper bound of the bucket containing the percentile, or 0 if nothing was recorded
+     */
+    public long getPercentile(double percentile) {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Gets the mean of the recorded values.
+     *
+     * @return The mean, or 0 if nothing was recorded
+     */
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    // Getters
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+}
@@ -0,0 +1,20 @@
+package game.monitoring;
+
+import java.util.Map;
+
+/**
+ * Management interface exposing the active labyrinth.
+ */
+public interface LabyrinthMXBean {
+    int getWidth();
+
+    int getHeight();
+
+    long getSeed();
+
+    Map<String, Integer> getRoomsByType();
+
+    int getVisitedRooms();
+
+    int getEnemiesRemaining();
+}
@@ -0,0 +1,25 @@
+package game.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event covering the generation of a labyrinth.
+ */
+@Name("game.MazeGeneration")
+@Label("Maze Generation")
+@Category({"Magical Labyrinth", "Model"})
+@Description("Generation of a labyrinth, from the maze structure to the exit room")
+public class MazeGenerationEvent extends Event {
+    @Label("Width")
+    public int width;
+
+    @Label("Height")
+    public int height;
+
+    @Label("Seed")
+    public long seed;
+}
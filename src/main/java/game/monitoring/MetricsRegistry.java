@@ -0,0 +1,113 @@
+package game.monitoring;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the game's in-process metrics. Metrics are created on first use and live
+ * for the lifetime of the JVM; callers should look them up once and keep the reference.
+ * Histograms in this registry record durations in nanoseconds.
+ */
+public class MetricsRegistry {
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    public static final String COMMANDS = "commands";
+    public static final String COMMAND_LATENCY = "command.latency";
+    public static final String FRAME_RENDER = "frame.render";
+    public static final String COMBAT_FIGHTS = "combat.fights";
+    public static final String COMBAT_ROUNDS = "combat.rounds";
+    public static final String GC_PAUSE = "gc.pause";
+    public static final String POOL_HITS = "pool.hits";
+    public static final String POOL_MISSES = "pool.misses";
+    public static final String POOL_REFILL = "pool.refill";
+    public static final String POOL_FAILURES = "pool.failures";
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the registry shared by the whole game.
+     *
+     * @return The global registry
+     */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Gets or creates the counter with the given name.
+     *
+     * @param name The counter name
+     * @return The counter
+     */
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, Counter::new);
+    }
+
+    /**
+     * Gets or creates the histogram with the given name.
+     *
+     * @param name The histogram name
+     * @return The histogram
+     */
+    public Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, Histogram::new);
+    }
+
+    /**
+     * Formats all metrics as a plain-text report, durations in milliseconds.
+     *
+     * @return The report
+     */
+    public String report() {
+        StringWriter text = new StringWriter();
+        writeReport(text);
+        return text.toString();
+    }
+
+    /**
+     * Writes the report to a file, replacing any previous content.
+     *
+     * @param path The file to write
+     * @throws IOException If the file cannot be written
+     */
+    public void dump(Path path) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writeReport(writer);
+        }
+    }
+
+    private void writeReport(Writer writer) {
+        PrintWriter out = new PrintWriter(writer);
+        out.println("Magical Labyrinth metrics, " + LocalDateTime.now());
+        out.println();
+
+        out.println("Counters:");
+        for (Counter counter : new TreeMap<>(counters).values()) {
+            out.printf("  %-20s %12d%n", counter.getName(), counter.getCount());
+        }
+        out.println();
+
+        out.println("Histograms (ms):");
+        out.printf("  %-20s %8s %10s %10s %10s %10s %10s%n", "name", "count", "mean", "p50", "p90", "p99", "max");
+        for (Histogram histogram : new TreeMap<>(histograms).values()) {
+            out.printf("  %-20s %8d %10.3f %10.3f %10.3f %10.3f %10.3f%n",
+                    histogram.getName(), histogram.getCount(),
+                    histogram.getMean() / 1e6,
+                    histogram.getPercentile(50) / 1e6,
+                    histogram.getPercentile(90) / 1e6,
+                    histogram.getPercentile(99) / 1e6,
+                    histogram.getMax() / 1e6);
+        }
+        out.flush();
+    }
+}
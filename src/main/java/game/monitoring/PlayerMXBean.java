@@ -0,0 +1,22 @@
+package game.monitoring;
+
+/**
+ * Management interface exposing the player of the active session.
+ */
+public interface PlayerMXBean {
+    String getName();
+
+    int getHealth();
+
+    int getMaxHealth();
+
+    int getLevel();
+
+    int getExperience();
+
+    int getRemainingMoves();
+
+    String getPosition();
+
+    boolean isTrapped();
+}
@@ -0,0 +1,25 @@
+package game.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for the player entering a room, including the room's reaction.
+ */
+@Name("game.RoomEnter")
+@Label("Room Enter")
+@Category({"Magical Labyrinth", "Model"})
+@Description("The player entering a room")
+public class RoomEnterEvent extends Event {
+    @Label("Room Type")
+    public String roomType;
+
+    @Label("X")
+    public int x;
+
+    @Label("Y")
+    public int y;
+}
@@ -0,0 +1,37 @@
+package game.monitoring;
+
+/**
+ * Management interface exposing runtime statistics of the game session.
+ */
+public interface SessionMXBean {
+    boolean isGameRunning();
+
+    long getCommandsProcessed();
+
+    double getAverageCommandLatencyMillis();
+
+    double getRenderFps();
+
+    /**
+     * Writes the latest game snapshot to a text file.
+     *
+     * @param path The file to write, or an empty string for a timestamped default
+     * @return The path of the written file
+     */
+    String saveSnapshot(String path);
+
+    /**
+     * Writes the metrics report to a text file.
+     *
+     * @param path The file to write, or an empty string for a timestamped default
+     * @return The path of the written file
+     */
+    String dumpMetrics(String path);
+
+    /**
+     * Reloads the content catalog. Rooms created afterwards use the new content.
+     *
+     * @return A summary of the loaded content
+     */
+    String reloadContent();
+}
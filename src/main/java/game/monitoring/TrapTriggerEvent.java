@@ -0,0 +1,29 @@
+package game.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for a trap hurting the player.
+ */
+@Name("game.TrapTrigger")
+@Label("Trap Trigger")
+@Category({"Magical Labyrinth", "Model"})
+@Description("A trap dealing damage to the player")
+public class TrapTriggerEvent extends Event {
+    @Label("Trap")
+    public String trap;
+
+    @Label("Cause")
+    @Description("What set the trap off: enter, disarm or avoid")
+    public String cause;
+
+    @Label("Damage")
+    public int damage;
+
+    @Label("Fatal")
+    public boolean fatal;
+}
@@ -0,0 +1,270 @@
+package game.view;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A double-buffered character grid for full-screen terminal output with ANSI escape codes.
+ * Drawing goes to a back buffer; {@link #flush()} compares it with what is on screen and
+ * sends only the changed cells, with cursor moves and color changes where needed,
+ * through one buffered writer, so a frame that changes little costs a few bytes.
+ */
+public class AnsiScreen {
+    public static final int DEFAULT = 0;
+    public static final int RED = 31;
+    public static final int GREEN = 32;
+    public static final int YELLOW = 33;
+    public static final int BLUE = 34;
+    public static final int MAGENTA = 35;
+    public static final int CYAN = 36;
+    public static final int GRAY = 90;
+    public static final int BOLD = 0x100;
+
+    private static final String CSI = "\u001B[";
+    private static final char INVALID = '\0'; // Never drawn, so a cell holding it is always resent
+    private static final long SIZE_CHECK_MILLIS = 500;
+
+    private final Writer out;
+    private int width;
+    private int height;
+    private char[] chars;
+    private short[] styles;
+    private char[] shownChars;
+    private short[] shownStyles;
+    private boolean clearScreen;
+    private long sizeCheckedAt;
+    private int[] terminalSize;
+
+    /**
+     * Creates a screen writing to a stream.
+     * 
+     * @param out The terminal's output stream
+     */
+    public AnsiScreen(OutputStream out) {
+        this.out = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        resize(80, 24);
+    }
+
+    /**
+     * Switches the terminal to its alternate screen and hides the cursor.
+     */
+    public void open() {
+        write(CSI + "?1049h" + CSI + "?25l");
+        clearScreen = true;
+    }
+
+    /**
+     * Restores the terminal's normal screen and cursor.
+     */
+    public void close() {
+        write(CSI + "0m" + CSI + "?25h" + CSI + "?1049l");
+    }
+
+    /**
+     * Resizes the grid if the size has changed. The next flush redraws everything.
+     * 
+     * @param width  Width in characters
+     * @param height Height in characters
+     */
+    public void resize(int width, int height) {
+        if (width == this.width && height == this.height) {
+            return;
+        }
+        this.width = width;
+        this.height = height;
+        this.chars = new char[width * height];
+        this.styles = new short[width * height];
+        this.shownChars = new char[width * height];
+        this.shownStyles = new short[width * height];
+        clear();
+        clearScreen = true;
+    }
+
+    /**
+     * Resizes the grid to the terminal, checking the terminal's size at most twice a second.
+     */
+    public void fitTerminal() {
+        long now = System.currentTimeMillis();
+        if (terminalSize == null || now - sizeCheckedAt >= SIZE_CHECK_MILLIS) {
+            terminalSize = querySize();
+            sizeCheckedAt = now;
+        }
+        resize(terminalSize[0], terminalSize[1]);
+    }
+
+    /**
+     * Blanks the back buffer.
+     */
+    public void clear() {
+        Arrays.fill(chars, ' ');
+        Arrays.fill(styles, (short) DEFAULT);
+    }
+
+    /**
+     * Draws a character into the back buffer. Cells outside the grid are ignored.
+     * 
+     * @param x     The column
+     * @param y     The row
+     * @param c     The character
+     * @param style A color, optionally combined with {@link #BOLD}
+     */
+    public void put(int x, int y, char c, int style) {
+        if (x >= 0 && x < width && y >= 0 && y < height) {
+            chars[y * width + x] = c;
+            styles[y * width + x] = (short) style;
+        }
+    }
+
+    /**
+     * Draws text into the back buffer, clipped at the right edge.
+     * 
+     * @param x     The starting column
+     * @param y     The row
+     * @param text  The text, which should not contain line breaks
+     * @param style A color, optionally combined with {@link #BOLD}
+     */
+    public void print(int x, int y, String text, int style) {
+        for (int i = 0; i < text.length() && x + i < width; i++) {
+            put(x + i, y, text.charAt(i), style);
+        }
+    }
+
+    /**
+     * Forces a row to be resent by the next flush, for when something else wrote over it.
+     * 
+     * @param y The row
+     */
+    public void invalidateRow(int y) {
+        if (y >= 0 && y < height) {
+            Arrays.fill(shownChars, y * width, (y + 1) * width, INVALID);
+        }
+    }
+
+    /**
+     * Sends the cells that differ from the screen, and makes them the screen's contents.
+     * 
+     * @return The number of cells sent
+     */
+    public int flush() {
+        StringBuilder frame = new StringBuilder();
+        if (clearScreen) {
+            frame.append(CSI).append("0m").append(CSI).append("2J");
+            Arrays.fill(shownChars, INVALID);
+            clearScreen = false;
+        }
+
+        int cursor = -1;
+        int style = -1;
+        int sent = 0;
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] == shownChars[i] && styles[i] == shownStyles[i]) {
+                continue;
+            }
+            // Writing in the last column may wrap, so the cursor is only trusted within a row
+            if (cursor != i || i % width == 0) {
+                frame.append(CSI).append(i / width + 1).append(';').append(i % width + 1).append('H');
+            }
+            if (styles[i] != style) {
+                style = styles[i];
+                frame.append(CSI).append('0');
+                if ((style & BOLD) != 0) {
+                    frame.append(";1");
+                }
+                if ((style & 0xFF) != DEFAULT) {
+                    frame.append(';').append(style & 0xFF);
+                }
+                frame.append('m');
+            }
+            frame.append(chars[i]);
+            cursor = i + 1;
+            shownChars[i] = chars[i];
+            shownStyles[i] = styles[i];
+            sent++;
+        }
+        if (style > 0) {
+            frame.append(CSI).append("0m");
+        }
+        write(frame.toString());
+        return sent;
+    }
+
+    /**
+     * Moves the terminal's cursor and shows or hides it, for reading input in place.
+     * 
+     * @param x       The column
+     * @param y       The row
+     * @param visible Whether the cursor should be shown
+     */
+    public void moveCursor(int x, int y, boolean visible) {
+        write(CSI + (y + 1) + ";" + (x + 1) + "H" + CSI + (visible ? "?25h" : "?25l"));
+    }
+
+    /**
+     * Writes text straight to the terminal, bypassing the buffers.
+     * 
+     * @param text The text
+     */
+    public void write(String text) {
+        try {
+            out.write(text);
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Getters
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Asks the terminal for its size with stty, falling back on the COLUMNS and LINES
+     * environment variables and then on 80x24.
+     * 
+     * @return The width and height in characters
+     */
+    static int[] querySize() {
+        try {
+            Process stty = new ProcessBuilder("sh", "-c", "stty size < /dev/tty")
+                    .redirectError(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            try (InputStream in = stty.getInputStream()) {
+                String[] size = new String(in.readAllBytes(), StandardCharsets.US_ASCII).trim().split("\\s+");
+                if (stty.waitFor(1, TimeUnit.SECONDS) && stty.exitValue() == 0 && size.length == 2) {
+                    int columns = Integer.parseInt(size[1]);
+                    int lines = Integer.parseInt(size[0]);
+                    if (columns > 0 && lines > 0) {
+                        return new int[] {columns, lines};
+                    }
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // No stty or no terminal; try the environment
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return new int[] {envSize("COLUMNS", 80), envSize("LINES", 24)};
+    }
+
+    private static int envSize(String name, int fallback) {
+        try {
+            String value = System.getenv(name);
+            return value == null ? fallback : Math.max(1, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+}
@@ -3,35 +3,75 @@ package game.view;
 import game.model.Labyrinth;
 import game.model.Player;
 import game.model.Position;
-import game.model.rooms.Room;
+import game.model.rooms.RoomType;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.Scanner;
 
 /**
  * Console-based implementation of the game view.
+ * In line mode it prints the status and a 5x5 map every turn. In full-screen mode it
+ * draws onto an {@link AnsiScreen}: the status line, a map viewport as large as the
+ * terminal allows, and the latest messages, redrawing only what changed each turn.
  */
 public class ConsoleView implements GameView {
+    private static final int MESSAGE_HISTORY = 100;
+    private static final int MIN_MESSAGE_ROWS = 2;
+    private static final int MAX_MESSAGE_ROWS = 10;
+    
     private Labyrinth labyrinth;
     private Player player;
     private Scanner scanner;
+    private AnsiScreen screen; // Null in line mode
+    private Deque<String> messages;
     
     /**
-     * Creates a new console view.
+     * Creates a new console view in line mode.
      * 
      * @param labyrinth The labyrinth model
      * @param player    The player model
      */
     public ConsoleView(Labyrinth labyrinth, Player player) {
+        this(labyrinth, player, false);
+    }
+    
+    /**
+     * Creates a new console view. Full-screen mode takes over the terminal's alternate
+     * screen until the program exits, and shows anything else printed to System.out
+     * as messages.
+     * 
+     * @param labyrinth  The labyrinth model
+     * @param player     The player model
+     * @param fullScreen Whether to draw full-screen with ANSI escape codes
+     */
+    public ConsoleView(Labyrinth labyrinth, Player player, boolean fullScreen) {
         this.labyrinth = labyrinth;
         this.player = player;
         this.scanner = new Scanner(System.in);
+        if (fullScreen) {
+            this.messages = new ArrayDeque<>();
+            this.screen = new AnsiScreen(System.out);
+            screen.open();
+            Runtime.getRuntime().addShutdownHook(new Thread(screen::close));
+            System.setOut(new PrintStream(new MessageStream(), true, StandardCharsets.UTF_8));
+        }
     }
     
     @Override
     public void update() {
+        if (screen != null) {
+            render(null);
+            return;
+        }
+        
         // Display simple character stats
-        System.out.println("\n" + player.getName() + " | HP: " + player.getHealth() + "/" + player.getMaxHealth() + 
-                          " | Level: " + player.getLevel());
+        System.out.println("\n" + statusLine());
         
         // Display simple map
         displaySimpleMap();
@@ -39,13 +79,40 @@ public class ConsoleView implements GameView {
     
     @Override
     public void displayMessage(String message) {
+        if (screen != null) {
+            // Shown with the next frame, so a burst of messages is drawn once
+            addMessage(message);
+            return;
+        }
         System.out.println(message);
     }
     
     @Override
     public String getPlayerInput(String prompt) {
-        System.out.print(prompt);
-        return scanner.nextLine();
+        if (screen == null) {
+            System.out.print(prompt);
+            return scanner.nextLine();
+        }
+        
+        // The prompt sits above a spare row, so pressing Enter never scrolls the screen
+        int promptRow = render(prompt);
+        screen.moveCursor(Math.min(prompt.length(), screen.getWidth() - 1), promptRow, true);
+        String input = scanner.nextLine();
+        screen.moveCursor(0, promptRow, false);
+        screen.invalidateRow(promptRow);
+        screen.invalidateRow(promptRow + 1);
+        return input;
+    }
+    
+    @Override
+    public void setLabyrinth(Labyrinth labyrinth) {
+        // The next frame redraws the map from the new labyrinth
+        this.labyrinth = labyrinth;
+    }
+    
+    private String statusLine() {
+        return player.getName() + " | HP: " + player.getHealth() + "/" + player.getMaxHealth() + 
+               " | Level: " + player.getLevel();
     }
     
     /**
@@ -65,36 +132,7 @@ public class ConsoleView implements GameView {
                 if (x == playerX && y == playerY) {
                     row.append("@"); // Player
                 } else {
-                    Room room = labyrinth.getRoomAt(new Position(x, y));
-                    if (room == null) {
-                        row.append("#"); // Wall
-                    } else if (!room.isVisited()) {
-                        row.append("?"); // Unexplored
-                    } else {
-                        // Display a character based on room type
-                        switch (room.getType()) {
-                            case REGULAR:
-                                row.append(".");
-                                break;
-                            case PUZZLE:
-                                row.append("P");
-                                break;
-                            case TREASURE:
-                                row.append("T");
-                                break;
-                            case MONSTER:
-                                row.append("M");
-                                break;
-                            case TRAP:
-                                row.append("!");
-                                break;
-                            case EXIT:
-                                row.append("E");
-                                break;
-                            default:
-                                row.append(".");
-                        }
-                    }
+                    row.append(cellChar(x, y));
                 }
             }
             System.out.println(row);
@@ -103,4 +141,154 @@ public class ConsoleView implements GameView {
         // Map legend
         System.out.println("Legend: P=Puzzle, T=Treasure, M=Monster, !=Trap, E=Exit");
     }
+    
+    /**
+     * Gets the map character for a cell.
+     * 
+     * @param x The x-coordinate
+     * @param y The y-coordinate
+     * @return '#' for a wall, '?' for an unexplored room, or the room type's symbol
+     */
+    private char cellChar(int x, int y) {
+        RoomType type = labyrinth.getRoomType(x, y);
+        if (type == null) {
+            return '#'; // Wall
+        } else if (!labyrinth.isVisited(x, y)) {
+            return '?'; // Unexplored
+        }
+        
+        // Display a character based on room type
+        switch (type) {
+            case PUZZLE:
+                return 'P';
+            case TREASURE:
+                return 'T';
+            case MONSTER:
+                return 'M';
+            case TRAP:
+                return '!';
+            case EXIT:
+                return 'E';
+            default:
+                return '.';
+        }
+    }
+    
+    private static int cellStyle(char c) {
+        switch (c) {
+            case '#':
+                return AnsiScreen.DEFAULT;
+            case '?':
+                return AnsiScreen.GRAY;
+            case 'P':
+                return AnsiScreen.BLUE;
+            case 'T':
+                return AnsiScreen.YELLOW;
+            case 'M':
+                return AnsiScreen.RED | AnsiScreen.BOLD;
+            case '!':
+                return AnsiScreen.MAGENTA;
+            case 'E':
+                return AnsiScreen.GREEN | AnsiScreen.BOLD;
+            default:
+                return AnsiScreen.DEFAULT;
+        }
+    }
+    
+    /**
+     * Draws a full-screen frame and sends the changes to the terminal.
+     * From the top: status, map viewport, legend, messages, prompt and a spare row.
+     * 
+     * @param prompt The prompt to show, or null for none
+     * @return The prompt's row
+     */
+    private int render(String prompt) {
+        screen.fitTerminal();
+        screen.clear();
+        int width = screen.getWidth();
+        int height = screen.getHeight();
+        
+        int messageRows = Math.max(MIN_MESSAGE_ROWS, Math.min(MAX_MESSAGE_ROWS, (height - 4) / 3));
+        int mapRows = Math.max(1, height - 4 - messageRows);
+        int legendRow = 1 + mapRows;
+        int promptRow = height - 2;
+        
+        screen.print(0, 0, statusLine(), AnsiScreen.BOLD);
+        drawViewport(1, mapRows, width);
+        screen.print(0, legendRow, "Legend: @=You, ?=Unexplored, P=Puzzle, T=Treasure, M=Monster, !=Trap, E=Exit",
+                AnsiScreen.GRAY);
+        
+        // The newest messages, bottom-aligned above the prompt
+        int row = promptRow - 1;
+        for (Iterator<String> it = messages.descendingIterator(); it.hasNext() && row > legendRow; row--) {
+            screen.print(0, row, it.next(), AnsiScreen.DEFAULT);
+        }
+        if (prompt != null) {
+            screen.print(0, promptRow, prompt, AnsiScreen.CYAN | AnsiScreen.BOLD);
+        }
+        
+        screen.flush();
+        return promptRow;
+    }
+    
+    /**
+     * Draws the part of the labyrinth around the player that fits the given rows,
+     * scrolling so the player stays near the middle, and centered if the labyrinth is smaller.
+     */
+    private void drawViewport(int top, int rows, int width) {
+        Position playerPos = player.getPosition();
+        int viewWidth = Math.min(width, labyrinth.getWidth());
+        int viewHeight = Math.min(rows, labyrinth.getHeight());
+        int startX = Math.max(0, Math.min(playerPos.getX() - viewWidth / 2, labyrinth.getWidth() - viewWidth));
+        int startY = Math.max(0, Math.min(playerPos.getY() - viewHeight / 2, labyrinth.getHeight() - viewHeight));
+        int left = (width - viewWidth) / 2;
+        int offsetTop = top + (rows - viewHeight) / 2;
+        
+        for (int y = 0; y < viewHeight; y++) {
+            for (int x = 0; x < viewWidth; x++) {
+                int cellX = startX + x;
+                int cellY = startY + y;
+                if (cellX == playerPos.getX() && cellY == playerPos.getY()) {
+                    screen.put(left + x, offsetTop + y, '@', AnsiScreen.CYAN | AnsiScreen.BOLD);
+                } else {
+                    char c = cellChar(cellX, cellY);
+                    screen.put(left + x, offsetTop + y, c, cellStyle(c));
+                }
+            }
+        }
+    }
+    
+    /**
+     * Adds a message to the history, one entry per line, wrapped to the screen's width.
+     */
+    private void addMessage(String message) {
+        int width = Math.max(1, screen.getWidth());
+        for (String line : message.split("\n", -1)) {
+            do {
+                messages.addLast(line.substring(0, Math.min(width, line.length())));
+                line = line.substring(Math.min(width, line.length()));
+            } while (!line.isEmpty());
+            while (messages.size() > MESSAGE_HISTORY) {
+                messages.removeFirst();
+            }
+        }
+    }
+    
+    /**
+     * Collects text printed to System.out in full-screen mode and shows each line as a message.
+     */
+    private final class MessageStream extends OutputStream {
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        
+        @Override
+        public synchronized void write(int b) {
+            if (b == '\n') {
+                String text = line.toString(StandardCharsets.UTF_8);
+                line.reset();
+                addMessage(text);
+            } else if (b != '\r') {
+                line.write(b);
+            }
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package game.view;
 
+import game.model.Labyrinth;
+
 /**
  * Interface for game views, allowing different implementations (console, GUI).
  */
@@ -24,4 +26,13 @@ public interface GameView {
      * @return The player's input
      */
     String getPlayerInput(String prompt);
+    
+    /**
+     * Switches the view to another labyrinth, e.g. when the player takes the stairs
+     * down to a new floor. Views that don't show the labyrinth can ignore this.
+     * 
+     * @param labyrinth The labyrinth to show
+     */
+    default void setLabyrinth(Labyrinth labyrinth) {
+    }
 }
@@ -0,0 +1,139 @@
+package game.view;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * View without a user interface, for running the game under tests, simulations and benchmarks.
+ * Input comes from a supplier, and messages are kept in a bounded buffer that drops the
+ * oldest when full, or discarded entirely with a capacity of 0. {@link #update()} does nothing.
+ */
+public class HeadlessView implements GameView {
+    public static final int DEFAULT_CAPACITY = 1000;
+    
+    private final Supplier<String> input;
+    private final int capacity;
+    private final Deque<String> messages;
+    private long dropped;
+    private long inputs;
+    
+    /**
+     * Creates a headless view keeping the last {@link #DEFAULT_CAPACITY} messages.
+     * 
+     * @param input Supplies the player's input, one line per prompt
+     */
+    public HeadlessView(Supplier<String> input) {
+        this(input, DEFAULT_CAPACITY);
+    }
+    
+    /**
+     * Creates a headless view.
+     * 
+     * @param input    Supplies the player's input, one line per prompt
+     * @param capacity How many of the latest messages to keep, or 0 to keep none
+     */
+    public HeadlessView(Supplier<String> input, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        this.input = input;
+        this.capacity = capacity;
+        this.messages = new ArrayDeque<>(Math.min(capacity, DEFAULT_CAPACITY));
+    }
+    
+    /**
+     * Creates a headless view that plays a script of commands. Once the script runs out
+     * it quits the game, so the controller's loop always ends.
+     * 
+     * @param commands The commands, in order
+     * @return The view
+     */
+    public static HeadlessView scripted(String... commands) {
+        return scripted(Arrays.asList(commands));
+    }
+    
+    /**
+     * Creates a headless view that plays a script of commands. Once the script runs out
+     * it quits the game, so the controller's loop always ends.
+     * 
+     * @param commands The commands, in order
+     * @return The view
+     */
+    public static HeadlessView scripted(List<String> commands) {
+        Iterator<String> script = new ArrayList<>(commands).iterator();
+        return new HeadlessView(() -> script.hasNext() ? script.next() : null);
+    }
+    
+    @Override
+    public void update() {
+    }
+    
+    @Override
+    public synchronized void displayMessage(String message) {
+        if (capacity == 0) {
+            dropped++;
+            return;
+        }
+        if (messages.size() == capacity) {
+            messages.removeFirst();
+            dropped++;
+        }
+        messages.addLast(message);
+    }
+    
+    /**
+     * Gets the next line from the supplier. When the supplier has nothing left,
+     * it answers "quit" and then confirms with "y" at the confirmation prompt.
+     */
+    @Override
+    public String getPlayerInput(String prompt) {
+        String line = input.get();
+        synchronized (this) {
+            inputs++;
+        }
+        if (line == null) {
+            return prompt.isEmpty() ? "y" : "quit";
+        }
+        return line;
+    }
+    
+    /**
+     * Removes all kept messages.
+     */
+    public synchronized void clearMessages() {
+        messages.clear();
+    }
+    
+    // Getters
+    
+    /**
+     * Gets the kept messages, oldest first.
+     * 
+     * @return A copy of the kept messages
+     */
+    public synchronized List<String> getMessages() {
+        return new ArrayList<>(messages);
+    }
+    
+    /**
+     * Gets the most recent message.
+     * 
+     * @return The last message kept, or null if none is
+     */
+    public synchronized String getLastMessage() {
+        return messages.peekLast();
+    }
+    
+    public synchronized long getDroppedCount() {
+        return dropped;
+    }
+    
+    public synchronized long getInputCount() {
+        return inputs;
+    }
+}
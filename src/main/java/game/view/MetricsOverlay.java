@@ -0,0 +1,97 @@
+package game.view;
+
+import game.monitoring.Counter;
+import game.monitoring.Histogram;
+import game.monitoring.MetricsRegistry;
+
+import java.awt.*;
+
+/**
+ * On-screen panel showing live performance metrics: command latency, frame time,
+ * combat rounds per second and GC pauses.
+ */
+public class MetricsOverlay {
+    private final Histogram commandLatency;
+    private final Histogram frameRender;
+    private final Histogram gcPause;
+    private final Counter combatRounds;
+    private boolean visible;
+
+    // Rate sampling
+    private long lastRounds;
+    private long lastSampleNanos;
+    private double roundsPerSecond;
+
+    public MetricsOverlay(MetricsRegistry registry) {
+        this.commandLatency = registry.histogram(MetricsRegistry.COMMAND_LATENCY);
+        this.frameRender = registry.histogram(MetricsRegistry.FRAME_RENDER);
+        this.gcPause = registry.histogram(MetricsRegistry.GC_PAUSE);
+        this.combatRounds = registry.counter(MetricsRegistry.COMBAT_ROUNDS);
+        this.lastSampleNanos = System.nanoTime();
+    }
+
+    /**
+     * Shows the overlay if it is hidden, or hides it if it is shown.
+     */
+    public void toggle() {
+        visible = !visible;
+    }
+
+    /**
+     * Updates the rates shown on the overlay. Called periodically while the overlay is visible.
+     */
+    public void sample() {
+        long now = System.nanoTime();
+        long rounds = combatRounds.getCount();
+        double seconds = (now - lastSampleNanos) / 1e9;
+        if (seconds > 0) {
+            roundsPerSecond = (rounds - lastRounds) / seconds;
+        }
+        lastRounds = rounds;
+        lastSampleNanos = now;
+    }
+
+    /**
+     * Draws the overlay in the top-left corner of the given area.
+     *
+     * @param g The graphics to draw on
+     */
+    public void draw(Graphics2D g) {
+        String[] lines = {
+                "                p50      p99      max",
+                line("command", commandLatency),
+                line("frame", frameRender),
+                line("gc pause", gcPause),
+                String.format("combat  %.1f rounds/s", roundsPerSecond),
+                "F3 to hide"
+        };
+
+        g.setFont(new Font("Monospaced", Font.PLAIN, 11));
+        FontMetrics metrics = g.getFontMetrics();
+        int lineHeight = metrics.getHeight();
+        int width = 0;
+        for (String line : lines) {
+            width = Math.max(width, metrics.stringWidth(line));
+        }
+
+        g.setColor(new Color(0, 0, 0, 180));
+        g.fillRect(4, 4, width + 12, lines.length * lineHeight + 8);
+        g.setColor(new Color(150, 255, 150));
+        for (int i = 0; i < lines.length; i++) {
+            g.drawString(lines[i], 10, 8 + metrics.getAscent() + i * lineHeight);
+        }
+    }
+
+    private static String line(String label, Histogram histogram) {
+        return String.format("%-9s %6.2fms %6.2fms %6.2fms", label,
+                histogram.getPercentile(50) / 1e6,
+                histogram.getPercentile(99) / 1e6,
+                histogram.getMax() / 1e6);
+    }
+
+    // Getters
+
+    public boolean isVisible() {
+        return visible;
+    }
+}
@@ -0,0 +1,368 @@
+package game.view.export;
+
+import game.model.Labyrinth;
+import game.model.Player;
+import game.model.Position;
+import game.model.rooms.RoomType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.zip.Deflater;
+
+/**
+ * Renders a whole labyrinth without a display, to a PNG image or a tile pyramid.
+ * Pixels are computed straight into int rasters, a row of cells at a time, in
+ * horizontal stripes on a fork/join pool; nothing goes through Graphics2D.
+ * Compression runs on the pool too, so writing is limited by the slowest of
+ * rendering, compressing and the disk rather than their sum.
+ *
+ * Every room shows its type, dimmed if it hasn't been visited, and the exit and
+ * the player are marked on top at any zoom level.
+ */
+public class MapExporter {
+    public static final int TILE_SIZE = 256;
+    private static final int STRIPE_ROWS = 16;
+    private static final int BAND_ROWS = 256;
+    private static final int MIN_MARKER_SIZE = 3;
+
+    private static final int WALL = 0x32323C;
+    private static final int UNEXPLORED = 0x78788C;
+    private static final int EXIT_MARKER = 0x00B400;
+    private static final int PLAYER_MARKER = 0xE02828;
+    // One color per room type, taken from MapRenderer's palette
+    private static final int[] ROOM_COLORS = new int[RoomType.values().length];
+
+    static {
+        ROOM_COLORS[RoomType.REGULAR.ordinal()] = 0xB4B4C8;
+        ROOM_COLORS[RoomType.PUZZLE.ordinal()] = 0x6496FF;
+        ROOM_COLORS[RoomType.TREASURE.ordinal()] = 0xFFD700;
+        ROOM_COLORS[RoomType.MONSTER.ordinal()] = 0xB42828;
+        ROOM_COLORS[RoomType.TRAP.ordinal()] = 0xC86400;
+        ROOM_COLORS[RoomType.EXIT.ordinal()] = 0x96FF96;
+    }
+
+    private final Labyrinth labyrinth;
+    private final Player player;
+    private final int cellSize;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates an exporter rendering on the common fork/join pool.
+     *
+     * @param labyrinth The labyrinth to render
+     * @param player    The player to mark, or null for none
+     * @param cellSize  Size of a cell in pixels at full resolution
+     */
+    public MapExporter(Labyrinth labyrinth, Player player, int cellSize) {
+        this(labyrinth, player, cellSize, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates an exporter.
+     *
+     * @param labyrinth The labyrinth to render
+     * @param player    The player to mark, or null for none
+     * @param cellSize  Size of a cell in pixels at full resolution
+     * @param pool      The pool to render on
+     */
+    public MapExporter(Labyrinth labyrinth, Player player, int cellSize, ForkJoinPool pool) {
+        if (cellSize < 1) {
+            throw new IllegalArgumentException("Cell size must be at least 1");
+        }
+        this.labyrinth = labyrinth;
+        this.player = player;
+        this.cellSize = cellSize;
+        this.pool = pool;
+    }
+
+    /**
+     * Writes the whole labyrinth as a single PNG image. The image is cut into bands of
+     * {@link #BAND_ROWS} rows that are rendered and compressed in parallel, a few
+     * bands ahead of the one being written, so memory use depends on the image's width only.
+     *
+     * @param path Where to write the image
+     * @throws IOException If the image cannot be written
+     */
+    public void exportPng(Path path) throws IOException {
+        int width = Math.multiplyExact(labyrinth.getWidth(), cellSize);
+        int height = Math.multiplyExact(labyrinth.getHeight(), cellSize);
+        int bandRows = Math.min(BAND_ROWS, height);
+        Math.multiplyExact(width, bandRows);
+        int ahead = pool.getParallelism() + 1;
+
+        Deque<ForkJoinTask<PngWriter.Band>> pending = new ArrayDeque<>();
+        try (PngWriter png = new PngWriter(Files.newOutputStream(path), width, height, Deflater.BEST_SPEED)) {
+            int y = 0;
+            while (y < height || !pending.isEmpty()) {
+                while (y < height && pending.size() < ahead) {
+                    long top = y;
+                    int rows = Math.min(bandRows, height - y);
+                    pending.add(pool.submit(() -> {
+                        int[] raster = new int[width * rows];
+                        new BandTask(raster, 0, top, width, rows, 0).invoke();
+                        return new PngWriter.Band(raster, 0, width, rows, Deflater.BEST_SPEED);
+                    }));
+                    y += rows;
+                }
+                png.writeBand(pending.remove().join());
+            }
+        } finally {
+            for (ForkJoinTask<?> task : pending) {
+                task.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Writes the labyrinth as a pyramid of {@link #TILE_SIZE} pixel PNG tiles, stored as
+     * directory/zoom/x/y.png. Zoom 0 fits the whole labyrinth in one tile and each
+     * level doubles the resolution, up to full resolution at the deepest level.
+     * Tiles are rendered and compressed in parallel. Zoomed-out levels sample one
+     * cell per pixel rather than averaging.
+     *
+     * @param directory Where to write the tiles
+     * @return The deepest zoom level
+     * @throws IOException If a tile cannot be written
+     */
+    public int exportTiles(Path directory) throws IOException {
+        long width = (long) labyrinth.getWidth() * cellSize;
+        long height = (long) labyrinth.getHeight() * cellSize;
+        int maxZoom = 0;
+        while ((Math.max(width, height) - 1 >> maxZoom) >= TILE_SIZE) {
+            maxZoom++;
+        }
+
+        for (int zoom = 0; zoom <= maxZoom; zoom++) {
+            int shift = maxZoom - zoom;
+            int tilesX = (int) (((width - 1 >> shift) + TILE_SIZE) / TILE_SIZE);
+            int tilesY = (int) (((height - 1 >> shift) + TILE_SIZE) / TILE_SIZE);
+            for (int x = 0; x < tilesX; x++) {
+                Files.createDirectories(directory.resolve(Integer.toString(zoom)).resolve(Integer.toString(x)));
+            }
+            try {
+                pool.invoke(new TileTask(directory, zoom, shift, tilesX, 0, tilesX * tilesY));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+        return maxZoom;
+    }
+
+    /**
+     * Renders a region of the map into a raster.
+     *
+     * @param raster Where to store the pixels, row after row
+     * @param left   X-coordinate of the region in pixels at this zoom level
+     * @param top    Y-coordinate of the region in pixels at this zoom level
+     * @param width  Width of the region in pixels
+     * @param height Height of the region in pixels
+     * @param shift  How many times the map is halved in size, 0 for full resolution
+     */
+    public void render(int[] raster, long left, long top, int width, int height, int shift) {
+        pool.invoke(new BandTask(raster, left, top, width, height, shift));
+    }
+
+    /**
+     * Renders a stripe of rows on the calling thread.
+     */
+    private void renderStripe(int[] raster, long left, long top, int width, int firstRow, int endRow, int shift) {
+        int scaledCell = cellSize >> shift;
+        boolean borders = scaledCell >= 4;
+        int[] colors = new int[width];
+        int[] cells = new int[width];
+        int colorsRow = -1;
+
+        for (int row = firstRow; row < endRow; row++) {
+            long fullY = top + row << shift;
+            int cellY = (int) (fullY / cellSize);
+            if (cellY >= labyrinth.getHeight()) {
+                Arrays.fill(raster, row * width, (row + 1) * width, WALL);
+                continue;
+            }
+            if (cellY != colorsRow) {
+                fillColors(colors, cells, left, width, cellY, shift);
+                colorsRow = cellY;
+            }
+
+            int offset = row * width;
+            if (borders && fullY % cellSize == 0) {
+                for (int i = 0; i < width; i++) {
+                    raster[offset + i] = darken(colors[i]);
+                }
+            } else if (borders) {
+                for (int i = 0; i < width; i++) {
+                    boolean edge = i == 0 ? (left + i << shift) % cellSize == 0 : cells[i] != cells[i - 1];
+                    raster[offset + i] = edge ? darken(colors[i]) : colors[i];
+                }
+            } else {
+                System.arraycopy(colors, 0, raster, offset, width);
+            }
+        }
+
+        drawMarker(raster, left, top, width, firstRow, endRow, shift, labyrinth.getExitPosition(), EXIT_MARKER);
+        if (player != null) {
+            drawMarker(raster, left, top, width, firstRow, endRow, shift, player.getPosition(), PLAYER_MARKER);
+        }
+    }
+
+    /**
+     * Works out the color of each pixel column for a row of cells, looking each cell up once.
+     */
+    private void fillColors(int[] colors, int[] cells, long left, int width, int cellY, int shift) {
+        int lastCell = -1;
+        int lastColor = WALL;
+        for (int i = 0; i < width; i++) {
+            long cellX = (left + i << shift) / cellSize;
+            if (cellX >= labyrinth.getWidth()) {
+                cells[i] = -1;
+                colors[i] = WALL;
+                continue;
+            }
+            if (cellX != lastCell) {
+                lastCell = (int) cellX;
+                lastColor = cellColor(lastCell, cellY);
+            }
+            cells[i] = lastCell;
+            colors[i] = lastColor;
+        }
+    }
+
+    private int cellColor(int x, int y) {
+        RoomType type = labyrinth.getRoomType(x, y);
+        if (type == null) {
+            return WALL;
+        }
+        int color = ROOM_COLORS[type.ordinal()];
+        return labyrinth.isVisited(x, y) ? color : blend(color, UNEXPLORED);
+    }
+
+    /**
+     * Fills a marker over a cell, at least {@link #MIN_MARKER_SIZE} pixels across so it
+     * stays visible when zoomed out, clipped to the rows being rendered.
+     */
+    private void drawMarker(int[] raster, long left, long top, int width, int firstRow, int endRow, int shift,
+                            Position cell, int color) {
+        long size = Math.max(MIN_MARKER_SIZE, (cellSize >> shift) / 2);
+        long centerX = ((long) cell.getX() * cellSize + cellSize / 2 >> shift) - left;
+        long centerY = ((long) cell.getY() * cellSize + cellSize / 2 >> shift) - top;
+        long x0 = Math.max(0, centerX - size / 2);
+        long x1 = Math.min(width, centerX - size / 2 + size);
+        long y0 = Math.max(firstRow, centerY - size / 2);
+        long y1 = Math.min(endRow, centerY - size / 2 + size);
+        for (long y = y0; y < y1; y++) {
+            for (long x = x0; x < x1; x++) {
+                raster[(int) (y * width + x)] = color;
+            }
+        }
+    }
+
+    private static int darken(int color) {
+        return (color >> 1 & 0x7F7F7F) + (color >> 2 & 0x3F3F3F);
+    }
+
+    private static int blend(int color, int other) {
+        return (color >> 1 & 0x7F7F7F) + (other >> 1 & 0x7F7F7F);
+    }
+
+    /**
+     * Renders a band of rows, splitting it into stripes of {@link #STRIPE_ROWS} rows.
+     */
+    private final class BandTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] raster;
+        private final long left;
+        private final long top;
+        private final int width;
+        private final int firstRow;
+        private final int endRow;
+        private final int shift;
+
+        BandTask(int[] raster, long left, long top, int width, int height, int shift) {
+            this(raster, left, top, width, 0, height, shift);
+        }
+
+        private BandTask(int[] raster, long left, long top, int width, int firstRow, int endRow, int shift) {
+            this.raster = raster;
+            this.left = left;
+            this.top = top;
+            this.width = width;
+            this.firstRow = firstRow;
+            this.endRow = endRow;
+            this.shift = shift;
+        }
+
+        @Override
+        protected void compute() {
+            if (endRow - firstRow <= STRIPE_ROWS) {
+                renderStripe(raster, left, top, width, firstRow, endRow, shift);
+                return;
+            }
+            int middle = firstRow + (endRow - firstRow) / 2;
+            invokeAll(new BandTask(raster, left, top, width, firstRow, middle, shift),
+                    new BandTask(raster, left, top, width, middle, endRow, shift));
+        }
+    }
+
+    /**
+     * Renders and writes a range of the tiles of one zoom level, numbered row by row.
+     */
+    private final class TileTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Path directory;
+        private final int zoom;
+        private final int shift;
+        private final int tilesX;
+        private final int first;
+        private final int end;
+
+        TileTask(Path directory, int zoom, int shift, int tilesX, int first, int end) {
+            this.directory = directory;
+            this.zoom = zoom;
+            this.shift = shift;
+            this.tilesX = tilesX;
+            this.first = first;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - first > 1) {
+                int middle = first + (end - first) / 2;
+                invokeAll(new TileTask(directory, zoom, shift, tilesX, first, middle),
+                        new TileTask(directory, zoom, shift, tilesX, middle, end));
+                return;
+            }
+
+            int tileX = first % tilesX;
+            int tileY = first / tilesX;
+            long mapWidth = ((long) labyrinth.getWidth() * cellSize - 1 >> shift) + 1;
+            long mapHeight = ((long) labyrinth.getHeight() * cellSize - 1 >> shift) + 1;
+            long left = (long) tileX * TILE_SIZE;
+            long top = (long) tileY * TILE_SIZE;
+            int width = (int) Math.min(TILE_SIZE, mapWidth - left);
+            int height = (int) Math.min(TILE_SIZE, mapHeight - top);
+
+            int[] raster = new int[width * height];
+            renderStripe(raster, left, top, width, 0, height, shift);
+            Path file = directory.resolve(Integer.toString(zoom)).resolve(Integer.toString(tileX))
+                    .resolve(tileY + ".png");
+            try (OutputStream out = Files.newOutputStream(file);
+                 PngWriter png = new PngWriter(out, width, height, Deflater.BEST_SPEED)) {
+                png.writeRows(raster, 0, height);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
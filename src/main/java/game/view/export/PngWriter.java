@@ -0,0 +1,237 @@
+package game.view.export;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Streams an 8-bit RGB PNG image row by row, so images far larger than the heap
+ * can be written. Rows use filter type 0, which costs nothing and suits the flat
+ * colors of a map.
+ *
+ * The image data is a zlib stream that the writer frames itself, so it can be
+ * compressed in independent {@link Band}s on several threads: each band is a run of
+ * raw deflate blocks ending on a byte boundary, and the bands' Adler-32 checksums are
+ * combined in order. Bands are emitted in IDAT chunks of up to {@link #CHUNK_SIZE} bytes.
+ */
+final class PngWriter implements Closeable {
+    private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final int CHUNK_SIZE = 1 << 16;
+    private static final int ADLER_BASE = 65521;
+
+    private final DataOutputStream out;
+    private final int width;
+    private final int height;
+    private final int level;
+    private final CRC32 crc;
+    private final byte[] chunk;
+    private int chunkLength;
+    private int rowsWritten;
+    private long adler;
+
+    /**
+     * Starts an image and writes its header.
+     *
+     * @param out    Where to write the image; closed when the writer is
+     * @param width  Width in pixels
+     * @param height Height in pixels
+     * @param level  Deflate compression level, from 0 to 9
+     * @throws IOException If the header cannot be written
+     */
+    PngWriter(OutputStream out, int width, int height, int level) throws IOException {
+        if (width <= 0 || height <= 0 || width > (Integer.MAX_VALUE - 1) / 3) {
+            throw new IllegalArgumentException("Unsupported image size " + width + "x" + height);
+        }
+        this.out = new DataOutputStream(new BufferedOutputStream(out, CHUNK_SIZE));
+        this.width = width;
+        this.height = height;
+        this.level = level;
+        this.crc = new CRC32();
+        this.chunk = new byte[CHUNK_SIZE];
+        this.adler = 1;
+
+        this.out.write(SIGNATURE);
+        byte[] header = new byte[13];
+        putInt(header, 0, width);
+        putInt(header, 4, height);
+        header[8] = 8; // Bit depth
+        header[9] = 2; // Color type: RGB
+        writeChunk("IHDR", header, header.length);
+
+        // zlib header: deflate with a 32K window, no preset dictionary
+        append(new byte[] {0x78, 0x01}, 2);
+    }
+
+    /**
+     * Compresses and writes rows of pixels on the calling thread.
+     *
+     * @param argb   Pixels in row-major order, one row of the image's width after another
+     * @param offset Index of the first pixel to write
+     * @param rows   The number of rows to write
+     * @throws IOException If the image cannot be written
+     */
+    void writeRows(int[] argb, int offset, int rows) throws IOException {
+        writeBand(new Band(argb, offset, width, rows, level));
+    }
+
+    /**
+     * Writes a band compressed earlier. Bands must be written in image order.
+     *
+     * @param band The band
+     * @throws IOException If the image cannot be written
+     */
+    void writeBand(Band band) throws IOException {
+        if (band.width != width || rowsWritten + band.rows > height) {
+            throw new IllegalArgumentException("Band doesn't fit the image");
+        }
+        append(band.data, band.length);
+        adler = combineAdler(adler, band.adler, band.rawLength);
+        rowsWritten += band.rows;
+    }
+
+    /**
+     * Ends the compressed data and writes the end of the image.
+     *
+     * @throws IOException If the image cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (rowsWritten != height) {
+                throw new IllegalStateException("Image has " + rowsWritten + " of " + height + " rows");
+            }
+            // An empty final stored block, then the checksum
+            byte[] trailer = {0x01, 0x00, 0x00, (byte) 0xFF, (byte) 0xFF, 0, 0, 0, 0};
+            putInt(trailer, 5, (int) adler);
+            append(trailer, trailer.length);
+            if (chunkLength > 0) {
+                writeChunk("IDAT", chunk, chunkLength);
+            }
+            writeChunk("IEND", chunk, 0);
+        } finally {
+            out.close();
+        }
+    }
+
+    private void append(byte[] data, int length) throws IOException {
+        for (int i = 0; i < length; ) {
+            int n = Math.min(length - i, chunk.length - chunkLength);
+            System.arraycopy(data, i, chunk, chunkLength, n);
+            chunkLength += n;
+            i += n;
+            if (chunkLength == chunk.length) {
+                writeChunk("IDAT", chunk, chunkLength);
+                chunkLength = 0;
+            }
+        }
+    }
+
+    private void writeChunk(String type, byte[] data, int length) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        out.writeInt(length);
+        out.write(typeBytes);
+        out.write(data, 0, length);
+        crc.reset();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+        out.writeInt((int) crc.getValue());
+    }
+
+    /**
+     * Gets the Adler-32 checksum of two pieces of data from their own checksums.
+     */
+    private static long combineAdler(long first, long second, long secondLength) {
+        long rem = secondLength % ADLER_BASE;
+        long sum1 = first & 0xFFFF;
+        long sum2 = rem * sum1 % ADLER_BASE;
+        sum1 += (second & 0xFFFF) + ADLER_BASE - 1;
+        sum2 += (first >>> 16) + (second >>> 16) + ADLER_BASE - rem;
+        sum1 %= ADLER_BASE;
+        sum2 %= ADLER_BASE;
+        return sum2 << 16 | sum1;
+    }
+
+    private static void putInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    /**
+     * A run of image rows compressed on its own, which can be done on any thread.
+     */
+    static final class Band {
+        private final int width;
+        private final int rows;
+        private final long rawLength;
+        private final long adler;
+        private byte[] data;
+        private int length;
+
+        /**
+         * Filters and compresses rows of pixels.
+         *
+         * @param argb   Pixels in row-major order
+         * @param offset Index of the first pixel
+         * @param width  Width of the image in pixels
+         * @param rows   The number of rows
+         * @param level  Deflate compression level, from 0 to 9
+         */
+        Band(int[] argb, int offset, int width, int rows, int level) {
+            this.width = width;
+            this.rows = rows;
+            this.rawLength = (long) rows * (1 + width * 3);
+            this.data = new byte[Math.max(64, (int) Math.min(Integer.MAX_VALUE - 8, rawLength / 8))];
+
+            byte[] row = new byte[1 + width * 3];
+            Adler32 checksum = new Adler32();
+            Deflater deflater = new Deflater(level, true);
+            try {
+                for (int r = 0; r < rows; r++) {
+                    int i = 1;
+                    for (int p = offset + r * width, end = p + width; p < end; p++) {
+                        int pixel = argb[p];
+                        row[i++] = (byte) (pixel >> 16);
+                        row[i++] = (byte) (pixel >> 8);
+                        row[i++] = (byte) pixel;
+                    }
+                    checksum.update(row);
+                    deflater.setInput(row);
+                    while (!deflater.needsInput()) {
+                        deflate(deflater, Deflater.NO_FLUSH);
+                    }
+                }
+                // Flush until the output stops filling the buffer, leaving the band byte-aligned
+                while (deflate(deflater, Deflater.SYNC_FLUSH)) {
+                    // Buffer was full; flush again
+                }
+            } finally {
+                deflater.end();
+            }
+            this.adler = checksum.getValue();
+        }
+
+        /**
+         * Runs the deflater once, growing the buffer if it fills.
+         *
+         * @return true if the buffer was filled, so there may be more output
+         */
+        private boolean deflate(Deflater deflater, int flush) {
+            if (length == data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+            int space = data.length - length;
+            int n = deflater.deflate(data, length, space, flush);
+            length += n;
+            return n == space;
+        }
+    }
+}